@@ -31,6 +31,7 @@ import fr.xpdustry.distributor.api.util.Players;
 import java.util.List;
 import java.util.Queue;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 import mindustry.Vars;
 import mindustry.gen.Player;
 import mindustry.net.Administration.PlayerInfo;
@@ -38,7 +39,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A command argument for an offline player, always guaranteed to return if an uuid is provided.
- * Can also search in online players.
+ * Names are searched in online players first, then in the players known by the server.
  *
  * @param <C> the command sender type
  */
@@ -128,6 +129,9 @@ public final class PlayerInfoArgument<C> extends CommandArgument<C, PlayerInfo>
      */
     public static final class PlayerInfoParser<C> implements ArgumentParser<C, PlayerInfo> {
 
+        // The offline players can be numerous, and clients only display a few suggestions anyway
+        private static final int MAX_SUGGESTIONS = 20;
+
         @Override
         public ArgumentParseResult<PlayerInfo> parse(final CommandContext<C> ctx, final Queue<String> inputQueue) {
             final var input = inputQueue.peek();
@@ -141,21 +145,29 @@ public final class PlayerInfoArgument<C> extends CommandArgument<C, PlayerInfo>
             }
 
             final var players = Players.findPlayers(input);
+            // Two infos are enough to know the input is ambiguous
+            final var infos = players.isEmpty()
+                    ? Players.findPlayerInfos(input, 2)
+                    : players.stream().map(Player::getInfo).toList();
 
-            if (players.isEmpty()) {
+            if (infos.isEmpty()) {
                 return ArgumentParseResult.failure(new PlayerNotFoundException(input, ctx));
-            } else if (players.size() > 1) {
+            } else if (infos.size() > 1) {
                 return ArgumentParseResult.failure(new TooManyPlayersFoundException(input, ctx));
             } else {
                 inputQueue.remove();
-                return ArgumentParseResult.success(players.get(0).getInfo());
+                return ArgumentParseResult.success(infos.get(0));
             }
         }
 
         @Override
         public List<String> suggestions(final CommandContext<C> commandContext, final String input) {
-            return Players.findPlayers(input, true).stream()
-                    .map(Player::plainName)
+            return Stream.concat(
+                            Players.findPlayers(input, true).stream().map(Player::plainName),
+                            Players.findPlayerInfos(input, MAX_SUGGESTIONS).stream()
+                                    .map(PlayerInfo::plainLastName))
+                    .distinct()
+                    .limit(MAX_SUGGESTIONS)
                     .toList();
         }
     }
@@ -60,9 +60,9 @@ public interface CommandSender {
      * @param args the arguments to format the message with
      */
     default void sendLocalizedMessage(final String key, final Object... args) {
-        final var format =
-                DistributorProvider.get().getGlobalLocalizationSource().localize(key, this.getLocale());
-        this.sendMessage(format == null ? "???" + key + " ???" : format.format(args));
+        final var template =
+                DistributorProvider.get().getGlobalLocalizationSource().template(key, this.getLocale());
+        this.sendMessage(template == null ? "???" + key + " ???" : template.format(args));
     }
 
     /**
@@ -81,9 +81,9 @@ public interface CommandSender {
      * @param args the arguments to format the warning with
      */
     default void sendLocalizedWarning(final String key, final Object... args) {
-        final var format =
-                DistributorProvider.get().getGlobalLocalizationSource().localize(key, this.getLocale());
-        this.sendWarning(format == null ? "???" + key + " ???" : format.format(args));
+        final var template =
+                DistributorProvider.get().getGlobalLocalizationSource().template(key, this.getLocale());
+        this.sendWarning(template == null ? "???" + key + " ???" : template.format(args));
     }
 
     /**
@@ -0,0 +1,94 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.localization;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * A localization source backed by a directory of properties bundles, reloaded as soon as they change.
+ * <br>
+ * The bundles are named after a base name and the locale they contain, such as {@code bundle_fr.properties} or
+ * {@code bundle_en_US.properties}. Files without locale and other files are ignored. The directory is watched by a
+ * background thread, which only parses the files that changed and swaps them in atomically, leaving the previous
+ * localizations in place if a file is invalid. Hence, the translations can be edited without restarting the server.
+ *
+ * <pre> {@code
+ *      public final class MyPlugin extends AbstractMindustryPlugin {
+ *
+ *          private DirectoryLocalizationSource source;
+ *
+ *          @Override
+ *          public void onInit() {
+ *              final var directory = this.getDirectory().resolve("bundles");
+ *              try {
+ *                  this.source = DirectoryLocalizationSource.create(directory, "bundle", Locale.ENGLISH);
+ *              } catch (final IOException e) {
+ *                  throw new RuntimeException("Failed to load the bundles.", e);
+ *              }
+ *              DistributorProvider.get().getGlobalLocalizationSource().addLocalizationSource(this.source);
+ *          }
+ *
+ *          @Override
+ *          public void onExit() {
+ *              // Stop watching the directory when the plugin is unloaded
+ *              try {
+ *                  this.source.close();
+ *              } catch (final IOException e) {
+ *                  this.getLogger().error("Failed to close the bundles.", e);
+ *              }
+ *          }
+ *      }
+ * } </pre>
+ */
+public interface DirectoryLocalizationSource extends LocalizationSource, Closeable {
+
+    /**
+     * Creates a new {@code DirectoryLocalizationSource} and starts watching the directory.
+     *
+     * @param directory     the directory containing the bundles
+     * @param baseName      the base name of the bundles
+     * @param defaultLocale the default locale of the localization source
+     * @return a new {@code DirectoryLocalizationSource} instance
+     * @throws IOException if the directory can't be watched or the bundles can't be read
+     * @throws IllegalArgumentException if a bundle contains an invalid pattern
+     */
+    static DirectoryLocalizationSource create(final Path directory, final String baseName, final Locale defaultLocale)
+            throws IOException {
+        return DirectoryLocalizationSourceImpl.create(directory, baseName, defaultLocale);
+    }
+
+    /**
+     * Returns the watched directory.
+     */
+    Path getDirectory();
+
+    /**
+     * Returns the default locale of this source.
+     */
+    Locale getDefaultLocale();
+
+    /**
+     * Stops watching the directory. The last loaded localizations stay available.
+     */
+    @Override
+    void close() throws IOException;
+}
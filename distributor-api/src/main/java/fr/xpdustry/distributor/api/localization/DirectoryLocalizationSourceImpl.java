@@ -0,0 +1,253 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.localization;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IllformedLocaleException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class DirectoryLocalizationSourceImpl implements DirectoryLocalizationSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryLocalizationSource.class);
+    // Editors often write a file in several steps, so the events are coalesced for a short time before reloading
+    private static final long COALESCE_MILLIS = 100L;
+    private static final String EXTENSION = ".properties";
+    // The languages of the bundles, so a file like bundle_extra_fr.properties isn't taken for a bundle of "bundle"
+    private static final Set<String> LANGUAGES = new HashSet<>();
+    private static final Set<String> REGIONS = Set.of(Locale.getISOCountries());
+
+    static {
+        LANGUAGES.addAll(Arrays.asList(Locale.getISOLanguages()));
+        for (final var locale : Locale.getAvailableLocales()) {
+            LANGUAGES.add(locale.getLanguage());
+        }
+        // The root locale
+        LANGUAGES.remove("");
+    }
+
+    private final Path directory;
+    private final String baseName;
+    private final Locale defaultLocale;
+    private final WatchService watcher;
+    // Only accessed by the watcher thread once created
+    private final Map<Path, Bundle> bundles = new HashMap<>();
+    private volatile LocalizationSourceRegistryImpl registry;
+
+    private DirectoryLocalizationSourceImpl(
+            final Path directory, final String baseName, final Locale defaultLocale, final WatchService watcher)
+            throws IOException {
+        this.directory = directory;
+        this.baseName = baseName;
+        this.defaultLocale = defaultLocale;
+        this.watcher = watcher;
+        try (final var files = Files.list(directory)) {
+            for (final var file : (Iterable<Path>) files::iterator) {
+                final var locale = this.getBundleLocale(file);
+                if (locale != null) {
+                    this.bundles.put(file, load(file, locale));
+                }
+            }
+        }
+        this.registry = this.build();
+    }
+
+    static DirectoryLocalizationSource create(final Path directory, final String baseName, final Locale defaultLocale)
+            throws IOException {
+        final var watcher = directory.getFileSystem().newWatchService();
+        final DirectoryLocalizationSourceImpl source;
+        try {
+            directory.register(
+                    watcher,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            source = new DirectoryLocalizationSourceImpl(directory, baseName, defaultLocale, watcher);
+        } catch (final IOException | RuntimeException e) {
+            watcher.close();
+            throw e;
+        }
+        final var thread = new Thread(source::watch, "distributor-localization-watcher-" + directory.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+        return source;
+    }
+
+    private static Bundle load(final Path file, final Locale locale) throws IOException {
+        final PropertyResourceBundle properties;
+        try (final var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties = new PropertyResourceBundle(reader);
+        }
+        final var translations = new HashMap<String, Translation>();
+        for (final var key : properties.keySet()) {
+            translations.put(key, Translation.of(new MessageFormat(properties.getString(key), locale)));
+        }
+        return new Bundle(locale, translations);
+    }
+
+    @Override
+    public @Nullable MessageFormat localize(final String key, final Locale locale) {
+        return this.registry.localize(key, locale);
+    }
+
+    @Override
+    public @Nullable MessageTemplate template(final String key, final Locale locale) {
+        return this.registry.template(key, locale);
+    }
+
+    @Override
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    @Override
+    public Locale getDefaultLocale() {
+        return this.defaultLocale;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.watcher.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                final var changed = new HashSet<Path>();
+                WatchKey key = this.watcher.take();
+                while (key != null) {
+                    for (final var event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            changed.addAll(this.bundles.keySet());
+                            try (final var files = Files.list(this.directory)) {
+                                files.forEach(changed::add);
+                            } catch (final IOException | UncheckedIOException e) {
+                                // Keeps watching, the known bundles are still reloaded
+                                LOGGER.error("Failed to list the localization directory {}.", this.directory, e);
+                            }
+                        } else {
+                            changed.add(this.directory.resolve((Path) event.context()));
+                        }
+                    }
+                    if (!key.reset()) {
+                        LOGGER.warn("The localization directory {} is no longer accessible.", this.directory);
+                        this.watcher.close();
+                        return;
+                    }
+                    key = this.watcher.poll(COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                try {
+                    this.reload(changed);
+                } catch (final RuntimeException e) {
+                    // Keeps watching, the next change may fix it
+                    LOGGER.error("Failed to reload the localization bundles of {}.", this.directory, e);
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException e) {
+            // The source has been closed
+        } catch (final IOException e) {
+            LOGGER.error("Failed to watch the localization directory {}.", this.directory, e);
+        }
+    }
+
+    private void reload(final Set<Path> files) {
+        var reloaded = false;
+        for (final var file : files) {
+            final var locale = this.getBundleLocale(file);
+            if (locale == null) {
+                continue;
+            }
+            if (!Files.isRegularFile(file)) {
+                reloaded |= this.bundles.remove(file) != null;
+                continue;
+            }
+            try {
+                this.bundles.put(file, load(file, locale));
+                reloaded = true;
+            } catch (final IOException | IllegalArgumentException e) {
+                LOGGER.error("Failed to reload the localization bundle {}, keeping the previous one.", file, e);
+            }
+        }
+        if (reloaded) {
+            this.registry = this.build();
+            MultiLocalizationSourceImpl.invalidate();
+            LOGGER.debug("Reloaded the localization bundles of {}.", this.directory);
+        }
+    }
+
+    private LocalizationSourceRegistryImpl build() {
+        final var registry = new LocalizationSourceRegistryImpl(this.defaultLocale);
+        for (final var entry : this.bundles.entrySet()) {
+            final var bundle = entry.getValue();
+            for (final var translation : bundle.translations().entrySet()) {
+                if (!registry.register(translation.getKey(), bundle.locale(), translation.getValue())) {
+                    LOGGER.warn(
+                            "Duplicate localization {} for {} in {}, ignoring it.",
+                            translation.getKey(),
+                            bundle.locale(),
+                            entry.getKey());
+                }
+            }
+        }
+        return registry;
+    }
+
+    private @Nullable Locale getBundleLocale(final Path file) {
+        final var name = file.getFileName().toString();
+        final var prefix = this.baseName + "_";
+        if (!name.startsWith(prefix)
+                || !name.endsWith(EXTENSION)
+                || name.length() <= prefix.length() + EXTENSION.length()) {
+            return null;
+        }
+        final var tag = name.substring(prefix.length(), name.length() - EXTENSION.length());
+        final Locale locale;
+        try {
+            locale = new Locale.Builder().setLanguageTag(tag.replace('_', '-')).build();
+        } catch (final IllformedLocaleException e) {
+            return null;
+        }
+        final var region = locale.getCountry();
+        if (!LANGUAGES.contains(locale.getLanguage())
+                || !(region.isEmpty() || REGIONS.contains(region) || region.chars().allMatch(Character::isDigit))) {
+            return null;
+        }
+        return locale;
+    }
+
+    private record Bundle(Locale locale, Map<String, Translation> translations) {}
+}
@@ -18,8 +18,14 @@
  */
 package fr.xpdustry.distributor.api.localization;
 
+import fr.xpdustry.distributor.api.util.Players;
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Locale;
+import java.util.function.BiConsumer;
+import mindustry.gen.Groups;
+import mindustry.gen.Player;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -52,6 +58,22 @@ public interface LocalizationSource {
      */
     @Nullable MessageFormat localize(final String key, final Locale locale);
 
+    /**
+     * Returns the localized string for the given key as a thread-safe {@link MessageTemplate}, or {@code null} if
+     * absent.
+     * <br>
+     * <strong>Note:</strong> the default implementation compiles the result of {@link #localize(String, Locale)} on
+     * each call, implementations should override it to return precompiled templates.
+     *
+     * @param key    the key of the string to localize
+     * @param locale the locale to use
+     * @return the localized string contained in a {@link MessageTemplate}, or {@code null} if no string was found.
+     */
+    default @Nullable MessageTemplate template(final String key, final Locale locale) {
+        final var format = this.localize(key, locale);
+        return format == null ? null : MessageTemplate.of(format);
+    }
+
     /**
      * Shorthand method to directly format a localized string, with a failover to a default value {@code ???key???}.
      *
@@ -66,11 +88,60 @@ public interface LocalizationSource {
      *
      * @param key    the key of the string to localize
      * @param locale the locale to use
-     * @param args   the arguments to pass to the {@link MessageFormat#format(Object)}
+     * @param args   the arguments to pass to the {@link MessageTemplate#format(Object...)}
      * @return the formatted string, or {@code ???key???} if no string was found.
      */
     default String format(final String key, final Locale locale, final Object... args) {
-        final var format = this.localize(key, locale);
-        return format == null ? "???" + key + "???" : format.format(args);
+        final var template = this.template(key, locale);
+        return template == null ? "???" + key + "???" : template.format(args);
+    }
+
+    /**
+     * Sends a localized message to every online player.
+     *
+     * <pre> {@code
+     *      final LocalizationSource source = ...;
+     *      source.broadcast("example.key", "argument");
+     * } </pre>
+     *
+     * @param key  the key of the string to localize
+     * @param args the arguments to format the message with
+     * @see #broadcast(Iterable, BiConsumer, String, Object...)
+     */
+    default void broadcast(final String key, final Object... args) {
+        this.broadcast(Groups.player, Player::sendMessage, key, args);
+    }
+
+    /**
+     * Sends a localized message to the given players. The message is rendered once per distinct localization among
+     * the locales of the players, instead of once per player. Missing localizations are sent as {@code ???key???}.
+     *
+     * <pre> {@code
+     *      // Send a localized announcement to every player
+     *      final LocalizationSource source = ...;
+     *      source.broadcast(Groups.player, Call::announce, "example.key", "argument");
+     * } </pre>
+     *
+     * @param players the players to send the message to
+     * @param sender  the function sending the rendered message to a player
+     * @param key     the key of the string to localize
+     * @param args    the arguments to format the message with
+     */
+    default void broadcast(
+            final Iterable<Player> players,
+            final BiConsumer<Player, String> sender,
+            final String key,
+            final Object... args) {
+        final var messages = new HashMap<Locale, String>();
+        final var rendered = new IdentityHashMap<MessageTemplate, String>();
+        for (final var player : players) {
+            final var message = messages.computeIfAbsent(Players.getLocale(player), locale -> {
+                final var template = this.template(key, locale);
+                return template == null
+                        ? "???" + key + "???"
+                        : rendered.computeIfAbsent(template, t -> t.format(args));
+            });
+            sender.accept(player, message);
+        }
     }
 }
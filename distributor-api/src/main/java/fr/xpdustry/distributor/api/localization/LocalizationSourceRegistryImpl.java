@@ -22,12 +22,22 @@ import java.text.MessageFormat;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class LocalizationSourceRegistryImpl implements LocalizationSourceRegistry {
 
+    // Marks the keys without localization for a locale in the resolution cache
+    private static final Object MISSING = new Object();
+    // Bounded since the missing keys and the locales can come from the players
+    private static final int MAX_CACHED_MISSES = 1024;
+    private static final int MAX_CACHED_LOCALES = 256;
+    private static final Map<String, Locale> LANGUAGES = new ConcurrentHashMap<>();
+
     private final Map<String, Localization> entries = new ConcurrentHashMap<>();
     private final Locale defaultLocale;
+    // The final result of the locale fallbacks of the looked up keys, replaced on each change of the entries
+    private volatile Resolutions resolutions = new Resolutions();
 
     LocalizationSourceRegistryImpl(final Locale defaultLocale) {
         this.defaultLocale = defaultLocale;
@@ -35,20 +45,76 @@ final class LocalizationSourceRegistryImpl implements LocalizationSourceRegistry
 
     @Override
     public @Nullable MessageFormat localize(final String key, final Locale locale) {
-        return this.entries.containsKey(key) ? this.entries.get(key).localize(locale) : null;
+        final var translation = this.resolve(key, locale);
+        return translation == null ? null : translation.format();
+    }
+
+    @Override
+    public @Nullable MessageTemplate template(final String key, final Locale locale) {
+        final var translation = this.resolve(key, locale);
+        return translation == null ? null : translation.template();
+    }
+
+    private @Nullable Translation resolve(final String key, final Locale locale) {
+        // Captured before reading the entries, so a resolution made with outdated entries is not kept
+        final var resolutions = this.resolutions;
+        var cache = resolutions.entries.get(locale);
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            if (resolutions.entries.size() < MAX_CACHED_LOCALES) {
+                final var previous = resolutions.entries.putIfAbsent(locale, cache);
+                if (previous != null) {
+                    cache = previous;
+                }
+            }
+        }
+        var result = cache.get(key);
+        if (result == null) {
+            final var localization = this.entries.get(key);
+            final var translation = localization == null ? null : localization.localize(locale);
+            result = translation == null ? MISSING : translation;
+            if (result != MISSING || resolutions.misses.get() < MAX_CACHED_MISSES) {
+                if (cache.put(key, result) == null && result == MISSING) {
+                    resolutions.misses.incrementAndGet();
+                }
+            }
+        }
+        return result == MISSING ? null : (Translation) result;
+    }
+
+    private static Locale getLanguage(final Locale locale) {
+        final var language = LANGUAGES.get(locale.getLanguage());
+        if (language != null) {
+            return language;
+        }
+        final var created = new Locale(locale.getLanguage());
+        if (LANGUAGES.size() < MAX_CACHED_LOCALES) {
+            LANGUAGES.putIfAbsent(locale.getLanguage(), created);
+        }
+        return created;
     }
 
     @Override
     public void register(final String key, final Locale locale, final MessageFormat format) {
-        if (!this.entries.computeIfAbsent(key, k -> new Localization()).register(locale, format)) {
+        if (!this.register(key, locale, Translation.of(format))) {
             throw new IllegalArgumentException(
                     String.format("A localization is already present: %s for %s.", key, locale));
         }
+        this.resolutions = new Resolutions();
+        MultiLocalizationSourceImpl.invalidate();
+    }
+
+    // Does not invalidate the caches, only usable on registries that are not published yet
+    boolean register(final String key, final Locale locale, final Translation translation) {
+        return this.entries.computeIfAbsent(key, k -> new Localization()).register(locale, translation);
     }
 
     @Override
     public void unregister(final String key) {
-        this.entries.remove(key);
+        if (this.entries.remove(key) != null) {
+            this.resolutions = new Resolutions();
+            MultiLocalizationSourceImpl.invalidate();
+        }
     }
 
     @Override
@@ -58,7 +124,8 @@ final class LocalizationSourceRegistryImpl implements LocalizationSourceRegistry
 
     @Override
     public boolean registered(final String key, final Locale locale) {
-        return this.entries.containsKey(key) && this.entries.get(key).formats.containsKey(locale);
+        final var localization = this.entries.get(key);
+        return localization != null && localization.formats.containsKey(locale);
     }
 
     @Override
@@ -68,17 +135,17 @@ final class LocalizationSourceRegistryImpl implements LocalizationSourceRegistry
 
     private final class Localization {
 
-        private final Map<Locale, MessageFormat> formats = new ConcurrentHashMap<>();
+        private final Map<Locale, Translation> formats = new ConcurrentHashMap<>();
 
-        private boolean register(final Locale locale, final MessageFormat format) {
-            return this.formats.putIfAbsent(locale, format) == null;
+        private boolean register(final Locale locale, final Translation translation) {
+            return this.formats.putIfAbsent(locale, translation) == null;
         }
 
-        private @Nullable MessageFormat localize(final Locale locale) {
+        private @Nullable Translation localize(final Locale locale) {
             var format = this.formats.get(locale);
             if (format == null) {
                 // try without the country
-                format = this.formats.get(new Locale(locale.getLanguage()));
+                format = this.formats.get(getLanguage(locale));
             }
             if (format == null) {
                 // try with default locale of this registry
@@ -91,4 +158,10 @@ final class LocalizationSourceRegistryImpl implements LocalizationSourceRegistry
             return format;
         }
     }
+
+    private static final class Resolutions {
+
+        private final Map<Locale, Map<String, Object>> entries = new ConcurrentHashMap<>();
+        private final AtomicInteger misses = new AtomicInteger();
+    }
 }
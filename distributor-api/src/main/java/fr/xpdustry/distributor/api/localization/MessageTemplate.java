@@ -0,0 +1,87 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.localization;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+/**
+ * An immutable and thread-safe precompiled message, a replacement of {@link MessageFormat} for hot paths.
+ * <br>
+ * Patterns only made of literal text and plain arguments such as {@code {0}} are formatted directly, without any
+ * lock or copy. Patterns using format types, such as {@code {0,number,#.##}}, are delegated to a per-thread copy of
+ * the original {@link MessageFormat}.
+ *
+ * <pre> {@code
+ *      final var template = MessageTemplate.of("Hello {0}!", Locale.ENGLISH);
+ *      template.format("Phinner"); // Hello Phinner!
+ * } </pre>
+ */
+public interface MessageTemplate {
+
+    /**
+     * Compiles a new {@code MessageTemplate} from a pattern.
+     *
+     * @param pattern the pattern of the message, with the syntax of {@link MessageFormat}
+     * @param locale  the locale of the message
+     * @return the compiled {@code MessageTemplate}
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static MessageTemplate of(final String pattern, final Locale locale) {
+        return of(new MessageFormat(pattern, locale));
+    }
+
+    /**
+     * Compiles a new {@code MessageTemplate} from a {@link MessageFormat}. Later changes of the format are not
+     * reflected in the template.
+     *
+     * @param format the format to compile
+     * @return the compiled {@code MessageTemplate}
+     */
+    static MessageTemplate of(final MessageFormat format) {
+        return MessageTemplateImpl.compile(format);
+    }
+
+    /**
+     * Formats the message with the given arguments, the same way as {@link MessageFormat#format(Object)}.
+     *
+     * @param args the arguments of the message
+     * @return the formatted message
+     */
+    String format(final Object... args);
+
+    /**
+     * Formats the message with the given arguments and appends it to the given builder.
+     *
+     * @param builder the builder to append the message to
+     * @param args    the arguments of the message
+     * @return the given builder
+     */
+    StringBuilder format(final StringBuilder builder, final Object... args);
+
+    /**
+     * Returns the pattern of this template.
+     */
+    String toPattern();
+
+    /**
+     * Returns the locale of this template.
+     */
+    Locale getLocale();
+}
@@ -0,0 +1,189 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.localization;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class MessageTemplateImpl implements MessageTemplate {
+
+    private static final int MAX_BUILDER_CAPACITY = 4096;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+    private static final ThreadLocal<Map<Locale, NumberFormat>> NUMBER_FORMATS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Locale, DateFormat>> DATE_FORMATS = ThreadLocal.withInitial(HashMap::new);
+
+    private final String pattern;
+    private final Locale locale;
+    // The literal text at even indexes, the argument indexes (as Integer) at odd indexes
+    private final Object @Nullable [] parts;
+    private final @Nullable ThreadLocal<MessageFormat> fallback;
+
+    private MessageTemplateImpl(
+            final String pattern,
+            final Locale locale,
+            final Object @Nullable [] parts,
+            final @Nullable ThreadLocal<MessageFormat> fallback) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.parts = parts;
+        this.fallback = fallback;
+    }
+
+    static MessageTemplate compile(final MessageFormat format) {
+        final var pattern = format.toPattern();
+        final var locale = format.getLocale();
+        Object[] parts = null;
+        if (locale != null && isSimple(format)) {
+            parts = parse(pattern);
+        }
+        if (parts != null) {
+            return new MessageTemplateImpl(pattern, locale, parts, null);
+        }
+        final var copy = (MessageFormat) format.clone();
+        return new MessageTemplateImpl(
+                pattern,
+                locale == null ? Locale.ROOT : locale,
+                null,
+                ThreadLocal.withInitial(() -> (MessageFormat) copy.clone()));
+    }
+
+    private static boolean isSimple(final MessageFormat format) {
+        for (final var element : format.getFormats()) {
+            if (element != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object @Nullable [] parse(final String pattern) {
+        final List<Object> parts = new ArrayList<>();
+        final var literal = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            final var c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == '{' && !quoted) {
+                final var end = pattern.indexOf('}', i);
+                if (end == -1) {
+                    return null;
+                }
+                final int index;
+                try {
+                    index = Integer.parseInt(pattern.substring(i + 1, end).trim());
+                } catch (final NumberFormatException e) {
+                    return null;
+                }
+                parts.add(literal.toString());
+                parts.add(index);
+                literal.setLength(0);
+                i = end;
+            } else {
+                literal.append(c);
+            }
+        }
+        parts.add(literal.toString());
+        return parts.toArray();
+    }
+
+    @Override
+    public String format(final Object... args) {
+        var builder = BUILDER.get();
+        // The builder is already in use if an argument formats another template in its toString method
+        if (builder.length() != 0) {
+            builder = new StringBuilder();
+        }
+        try {
+            return this.format(builder, args).toString();
+        } finally {
+            builder.setLength(0);
+            if (builder.capacity() > MAX_BUILDER_CAPACITY) {
+                builder.trimToSize();
+            }
+        }
+    }
+
+    @Override
+    public StringBuilder format(final StringBuilder builder, final Object... args) {
+        if (this.fallback != null) {
+            return builder.append(this.fallback.get().format(args));
+        }
+        final var parts = this.parts;
+        builder.append((String) parts[0]);
+        for (int i = 1; i < parts.length; i += 2) {
+            this.append(builder, (Integer) parts[i], args);
+            builder.append((String) parts[i + 1]);
+        }
+        return builder;
+    }
+
+    // Mirrors the formatting of the arguments without format type in MessageFormat
+    private void append(final StringBuilder builder, final int index, final Object @Nullable [] args) {
+        if (args == null || index >= args.length) {
+            builder.append('{').append(index).append('}');
+            return;
+        }
+        final var arg = args[index];
+        if (arg == null) {
+            builder.append("null");
+        } else if (arg instanceof String string) {
+            builder.append(string);
+        } else if (arg instanceof Number) {
+            builder.append(NUMBER_FORMATS.get()
+                    .computeIfAbsent(this.locale, NumberFormat::getInstance)
+                    .format(arg));
+        } else if (arg instanceof Date) {
+            builder.append(DATE_FORMATS.get()
+                    .computeIfAbsent(
+                            this.locale, l -> DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, l))
+                    .format(arg));
+        } else {
+            builder.append(arg);
+        }
+    }
+
+    @Override
+    public String toPattern() {
+        return this.pattern;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageTemplate{pattern=" + this.pattern + ", locale=" + this.locale + "}";
+    }
+}
@@ -21,29 +21,140 @@ package fr.xpdustry.distributor.api.localization;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class MultiLocalizationSourceImpl implements MultiLocalizationSource {
 
+    // Marks the keys without localization for a locale in the resolution cache
+    private static final Object MISSING = new Object();
+    // Incremented on each change of a source of this package, to invalidate the resolution caches
+    private static final AtomicLong VERSION = new AtomicLong();
+    // Bounded since the missing keys and the locales can come from the players
+    private static final int MAX_CACHED_MISSES = 1024;
+    private static final int MAX_CACHED_LOCALES = 256;
+
     private final Deque<LocalizationSource> sources = new ArrayDeque<>();
+    // The multi sources containing this one, which can't cache their lookups if this one can't
+    private final List<MultiLocalizationSourceImpl> parents = new CopyOnWriteArrayList<>();
+    // Whether every source notifies its changes via invalidate(), in which case the lookups can be cached
+    private volatile boolean cacheable = true;
+    private volatile Resolutions resolutions = new Resolutions(-1L);
+
+    static void invalidate() {
+        VERSION.incrementAndGet();
+    }
 
     @Override
     public void addLocalizationSource(final LocalizationSource source) {
         this.sources.add(source);
+        if (source instanceof final MultiLocalizationSourceImpl multi) {
+            multi.parents.add(this);
+            if (!multi.cacheable) {
+                this.disableCache();
+            }
+        } else if (!(source instanceof LocalizationSourceRegistryImpl
+                || source instanceof DirectoryLocalizationSourceImpl
+                || source instanceof RouterLocalizationSource)) {
+            this.disableCache();
+        }
+        invalidate();
     }
 
     @Override
     public @Nullable MessageFormat localize(final String key, final Locale locale) {
-        final var iterator = this.sources.descendingIterator();
+        if (!this.cacheable) {
+            final var iterator = this.sources.descendingIterator();
+            while (iterator.hasNext()) {
+                final var translation = iterator.next().localize(key, locale);
+                if (translation != null) {
+                    return translation;
+                }
+            }
+            return null;
+        }
+        final var translation = this.resolve(key, locale);
+        return translation == null ? null : translation.format();
+    }
+
+    @Override
+    public @Nullable MessageTemplate template(final String key, final Locale locale) {
+        if (!this.cacheable) {
+            final var iterator = this.sources.descendingIterator();
+            while (iterator.hasNext()) {
+                final var template = iterator.next().template(key, locale);
+                if (template != null) {
+                    return template;
+                }
+            }
+            return null;
+        }
+        final var translation = this.resolve(key, locale);
+        return translation == null ? null : translation.template();
+    }
 
-        while (iterator.hasNext()) {
-            final var translation = iterator.next().localize(key, locale);
-            if (translation != null) {
-                return translation;
+    private @Nullable Translation resolve(final String key, final Locale locale) {
+        // The version is read before the sources, so a resolution made with outdated sources is not kept
+        final var version = VERSION.get();
+        var resolutions = this.resolutions;
+        if (resolutions.version != version) {
+            resolutions = new Resolutions(version);
+            this.resolutions = resolutions;
+        }
+        var cache = resolutions.entries.get(locale);
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            if (resolutions.entries.size() < MAX_CACHED_LOCALES) {
+                final var previous = resolutions.entries.putIfAbsent(locale, cache);
+                if (previous != null) {
+                    cache = previous;
+                }
+            }
+        }
+        var result = cache.get(key);
+        if (result == null) {
+            result = MISSING;
+            final var iterator = this.sources.descendingIterator();
+            while (iterator.hasNext()) {
+                final var source = iterator.next();
+                final var format = source.localize(key, locale);
+                if (format != null) {
+                    final var template = source.template(key, locale);
+                    result = new Translation(format, template == null ? MessageTemplate.of(format) : template);
+                    break;
+                }
+            }
+            if (result != MISSING || resolutions.misses.get() < MAX_CACHED_MISSES) {
+                if (cache.put(key, result) == null && result == MISSING) {
+                    resolutions.misses.incrementAndGet();
+                }
             }
         }
+        return result == MISSING ? null : (Translation) result;
+    }
+
+    private void disableCache() {
+        // Checked first, to stop on cycles
+        if (this.cacheable) {
+            this.cacheable = false;
+            this.parents.forEach(MultiLocalizationSourceImpl::disableCache);
+        }
+    }
 
-        return null;
+    private static final class Resolutions {
+
+        private final long version;
+        private final Map<Locale, Map<String, Object>> entries = new ConcurrentHashMap<>();
+        private final AtomicInteger misses = new AtomicInteger();
+
+        private Resolutions(final long version) {
+            this.version = version;
+        }
     }
 }
@@ -28,6 +28,7 @@ final class RouterLocalizationSource implements LocalizationSource {
 
     static final Locale ROUTER_LOCALE = new Locale("router");
     private static final MessageFormat ROUTER_FORMAT = new MessageFormat("router", ROUTER_LOCALE);
+    private static final MessageTemplate ROUTER_TEMPLATE = MessageTemplate.of(ROUTER_FORMAT);
 
     private RouterLocalizationSource() {}
 
@@ -35,4 +36,9 @@ final class RouterLocalizationSource implements LocalizationSource {
     public @Nullable MessageFormat localize(final String key, final Locale locale) {
         return locale.equals(ROUTER_LOCALE) ? ROUTER_FORMAT : null;
     }
+
+    @Override
+    public @Nullable MessageTemplate template(final String key, final Locale locale) {
+        return locale.equals(ROUTER_LOCALE) ? ROUTER_TEMPLATE : null;
+    }
 }
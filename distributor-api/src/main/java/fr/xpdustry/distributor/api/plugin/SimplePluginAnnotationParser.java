@@ -74,8 +74,13 @@ final class SimplePluginAnnotationParser implements PluginAnnotationParser {
 
         final var scheduler = DistributorProvider.get().getPluginScheduler();
         final var builder = annotation.async() ? scheduler.scheduleAsync(plugin) : scheduler.scheduleSync(plugin);
+        builder.clock(annotation.clock());
         if (annotation.interval() > -1) {
-            builder.repeat(annotation.interval(), annotation.unit());
+            if (annotation.fixedRate()) {
+                builder.repeatAtFixedRate(annotation.interval(), annotation.unit(), annotation.catchUp());
+            } else {
+                builder.repeat(annotation.interval(), annotation.unit());
+            }
         }
         if (annotation.delay() > -1) {
             builder.delay(annotation.delay(), annotation.unit());
@@ -0,0 +1,42 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.scheduler;
+
+/**
+ * Defines how a task repeating at a fixed rate behaves when it misses one or more executions, because of a lag
+ * spike or an execution longer than its interval.
+ */
+public enum CatchUpPolicy {
+
+    /**
+     * The missed executions are dropped, the task runs again at the next planned execution time.
+     */
+    SKIP,
+
+    /**
+     * The missed executions are merged into a single one, executed as soon as possible. The task then resumes its
+     * original cadence.
+     */
+    COALESCE,
+
+    /**
+     * Every missed execution is run, back to back, until the task is caught up with its original cadence.
+     */
+    RUN_ALL
+}
@@ -20,6 +20,8 @@ package fr.xpdustry.distributor.api.scheduler;
 
 import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * A {@code PluginScheduler} is used to schedule tasks for a plugin. A better alternative to {@link arc.util.Timer}.
@@ -42,6 +44,41 @@ public interface PluginScheduler {
      */
     PluginTaskBuilder scheduleAsync(final MindustryPlugin plugin);
 
+    /**
+     * Returns a new {@link PluginTaskPipeline} instance.
+     *
+     * @param plugin the plugin to schedule the task for.
+     * @param value  the initial value.
+     * @return a new {@link PluginTaskPipeline} instance.
+     */
+    <V> PluginTaskPipeline<V> pipeline(final MindustryPlugin plugin, final V value);
+
+    /**
+     * Returns a new {@link PluginTaskBatcher} instance.
+     *
+     * @param plugin   the plugin to schedule the batches for.
+     * @param maxSize  the maximum number of items of a batch.
+     * @param maxDelay the maximum delay before flushing an item, in real time.
+     * @param unit     the time unit of the delay.
+     * @param consumer the consumer of the batches, called asynchronously.
+     * @param <T>      the type of the items.
+     * @return a new {@link PluginTaskBatcher} instance.
+     */
+    <T> PluginTaskBatcher<T> batcher(
+            final MindustryPlugin plugin,
+            final int maxSize,
+            final long maxDelay,
+            final MindustryTimeUnit unit,
+            final Consumer<List<T>> consumer);
+
+    /**
+     * Returns the executor running the asynchronous tasks of this scheduler. It can be used to parallelize work that
+     * does not belong to a plugin, such as {@link fr.xpdustry.distributor.api.util.EntityQuery entity queries}.
+     * <br>
+     * The returned executor only submits tasks, the pool behind it is managed by the scheduler.
+     */
+    Executor getAsyncExecutor();
+
     /**
      * Returns a new {@link PluginTaskRecipe} instance.
      *
@@ -49,7 +86,8 @@ public interface PluginScheduler {
      * @param value  the initial value.
      * @return a new {@link PluginTaskRecipe} instance.
      * @deprecated The recipe API is awful given the better alternatives such as completable futures, coroutines,
-     *             or even the structured concurrency API of java 21.
+     *             or even the structured concurrency API of java 21. Use {@link #pipeline(MindustryPlugin, Object)}
+     *             instead.
      */
     @Deprecated(forRemoval = true)
     <V> PluginTaskRecipe<V> recipe(final MindustryPlugin plugin, final V value);
@@ -0,0 +1,60 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.scheduler;
+
+import fr.xpdustry.distributor.api.plugin.PluginAware;
+
+/**
+ * A {@code PluginTaskBatcher} accumulates items and hands them over in batches to a consumer, in a single asynchronous
+ * task, when the maximum size of a batch is reached or when the oldest item waited for the maximum delay. Useful to
+ * turn per-event work, such as database writes, into batched work.
+ * <p>
+ * Adding an item never blocks and is safe from any thread. The batches are consumed one at a time, in the insertion
+ * order. The remaining items are flushed when the batcher is closed, or when the scheduler shuts down for the
+ * batchers still open.
+ *
+ * @param <T> the type of the items.
+ */
+public interface PluginTaskBatcher<T> extends PluginAware, AutoCloseable {
+
+    /**
+     * Adds an item to the current batch.
+     *
+     * @param item the item to add.
+     * @throws IllegalStateException if the batcher is closed.
+     */
+    void add(final T item);
+
+    /**
+     * Flushes the current batch asynchronously, without waiting for the size or time thresholds.
+     */
+    void flush();
+
+    /**
+     * Returns the number of items waiting to be flushed.
+     */
+    int size();
+
+    /**
+     * Flushes the remaining items asynchronously and releases this batcher from its scheduler. Adding items to a
+     * closed batcher is not allowed, closing it again does nothing.
+     */
+    @Override
+    void close();
+}
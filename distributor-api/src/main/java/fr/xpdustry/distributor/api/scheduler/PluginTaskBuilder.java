@@ -45,7 +45,7 @@ public interface PluginTaskBuilder {
     PluginTaskBuilder delay(final long delay, final MindustryTimeUnit unit);
 
     /**
-     * Run the task periodically with a fixed interval.
+     * Run the task periodically with a fixed delay between the executions.
      * Stops the periodic execution if an exception is thrown.
      *
      * @param interval the interval between the end of the last execution and the start of the next.
@@ -54,6 +54,39 @@ public interface PluginTaskBuilder {
      */
     PluginTaskBuilder repeat(final long interval, final MindustryTimeUnit unit);
 
+    /**
+     * Run the task periodically at a fixed rate, the missed executions being handled with
+     * {@link CatchUpPolicy#COALESCE}.
+     * Stops the periodic execution if an exception is thrown.
+     *
+     * @param interval the interval between the start of two consecutive executions.
+     * @param unit     the time unit of the interval.
+     * @return this builder.
+     */
+    default PluginTaskBuilder repeatAtFixedRate(final long interval, final MindustryTimeUnit unit) {
+        return this.repeatAtFixedRate(interval, unit, CatchUpPolicy.COALESCE);
+    }
+
+    /**
+     * Run the task periodically at a fixed rate, unlike {@link #repeat(long, MindustryTimeUnit)}, the cadence of the
+     * task does not drift with long executions or lag spikes.
+     * Stops the periodic execution if an exception is thrown.
+     *
+     * @param interval the interval between the start of two consecutive executions.
+     * @param unit     the time unit of the interval.
+     * @param policy   how the missed executions are handled.
+     * @return this builder.
+     */
+    PluginTaskBuilder repeatAtFixedRate(final long interval, final MindustryTimeUnit unit, final CatchUpPolicy policy);
+
+    /**
+     * Sets the clock measuring the delay and the interval of the task, {@link TaskClock#GAME_TIME} by default.
+     *
+     * @param clock the clock of the task.
+     * @return this builder.
+     */
+    PluginTaskBuilder clock(final TaskClock clock);
+
     /**
      * Build and schedule the task with the given task.
      *
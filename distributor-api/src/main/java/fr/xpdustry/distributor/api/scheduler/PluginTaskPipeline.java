@@ -0,0 +1,117 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.scheduler;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@code PluginTaskPipeline} is a chain of steps executed one after the other, either synchronously or
+ * asynchronously, each step receiving the result of the previous one.
+ * <p>
+ * Unlike {@link PluginTaskRecipe}, consecutive steps on the same executor are fused and run back-to-back, and a step
+ * is submitted directly to its executor once the previous one completes, instead of waiting for the next update of
+ * the scheduler. Cancelling the returned task stops the pipeline and, if allowed, interrupts the running steps. The
+ * first exception thrown by a step completes the task exceptionally and stops the pipeline.
+ *
+ * <pre> {@code
+ *      final PluginScheduler scheduler = ...;
+ *      final MindustryPlugin plugin = ...;
+ *      final CommandHandler handler = ...;
+ *      handler.<Player>register("stats", "Get your stats.", (args, player) -> scheduler
+ *          .pipeline(plugin, player)
+ *          .thenAccept(p -> p.sendMessage("Getting your stats..."))
+ *          .thenForkAsync(List.of(p -> getRankFromDatabase(p), p -> getKillsFromDatabase(p)))
+ *          .thenAccept(stats -> player.sendMessage("Rank " + stats.get(0) + ", kills " + stats.get(1)))
+ *          .execute());
+ * } </pre>
+ *
+ * @param <V> the type of the result.
+ */
+public interface PluginTaskPipeline<V> {
+
+    /**
+     * Adds a synchronous step consuming the current value.
+     *
+     * @param consumer the step.
+     * @return a new pipeline with the added step.
+     */
+    PluginTaskPipeline<V> thenAccept(final Consumer<? super V> consumer);
+
+    /**
+     * Adds a synchronous step transforming the current value.
+     *
+     * @param function the step.
+     * @param <R>      the type of the new value.
+     * @return a new pipeline with the added step.
+     */
+    <R> PluginTaskPipeline<R> thenApply(final Function<? super V, ? extends R> function);
+
+    /**
+     * Adds a synchronous step ignoring the current value.
+     *
+     * @param runnable the step.
+     * @return a new pipeline with the added step.
+     */
+    PluginTaskPipeline<V> thenRun(final Runnable runnable);
+
+    /**
+     * Adds an asynchronous step consuming the current value.
+     *
+     * @param consumer the step.
+     * @return a new pipeline with the added step.
+     */
+    PluginTaskPipeline<V> thenAcceptAsync(final Consumer<? super V> consumer);
+
+    /**
+     * Adds an asynchronous step transforming the current value.
+     *
+     * @param function the step.
+     * @param <R>      the type of the new value.
+     * @return a new pipeline with the added step.
+     */
+    <R> PluginTaskPipeline<R> thenApplyAsync(final Function<? super V, ? extends R> function);
+
+    /**
+     * Adds an asynchronous step ignoring the current value.
+     *
+     * @param runnable the step.
+     * @return a new pipeline with the added step.
+     */
+    PluginTaskPipeline<V> thenRunAsync(final Runnable runnable);
+
+    /**
+     * Adds a step applying the given functions in parallel on the current value, asynchronously. The pipeline resumes
+     * once all of them complete, with their results in the same order as the functions. If one of them fails, the
+     * branches not started yet are skipped.
+     *
+     * @param functions the parallel steps.
+     * @param <R>       the type of the results.
+     * @return a new pipeline with the added step.
+     */
+    <R> PluginTaskPipeline<List<R>> thenForkAsync(final List<? extends Function<? super V, ? extends R>> functions);
+
+    /**
+     * Starts the pipeline.
+     *
+     * @return the task completed with the result of the last step.
+     */
+    PluginTask<V> execute();
+}
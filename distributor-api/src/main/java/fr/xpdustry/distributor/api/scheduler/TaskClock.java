@@ -0,0 +1,37 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.scheduler;
+
+/**
+ * Defines which clock measures the delays and intervals of a task.
+ */
+public enum TaskClock {
+
+    /**
+     * The time of the game loop. One tick is one update of the server, so the delays are stretched when the server
+     * lags. Best suited for tasks interacting with the game.
+     */
+    GAME_TIME,
+
+    /**
+     * The monotonic real time, unaffected by the server lag or the changes of the system clock. Best suited for
+     * tasks such as database flushes or heartbeats.
+     */
+    REAL_TIME
+}
@@ -54,4 +54,21 @@ public @interface TaskHandler {
      * Whether the task should be executed asynchronously.
      */
     boolean async() default false;
+
+    /**
+     * The clock measuring the interval and initial delay.
+     */
+    TaskClock clock() default TaskClock.GAME_TIME;
+
+    /**
+     * Whether the task should be repeated at a fixed rate instead of with a fixed delay.
+     *
+     * @see PluginTaskBuilder#repeatAtFixedRate(long, MindustryTimeUnit, CatchUpPolicy)
+     */
+    boolean fixedRate() default false;
+
+    /**
+     * How the missed executions are handled if the task is repeated at a fixed rate.
+     */
+    CatchUpPolicy catchUp() default CatchUpPolicy.COALESCE;
 }
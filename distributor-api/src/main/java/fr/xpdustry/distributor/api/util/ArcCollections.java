@@ -18,14 +18,23 @@
  */
 package fr.xpdustry.distributor.api.util;
 
+import arc.struct.IntMap;
+import arc.struct.IntSeq;
+import arc.struct.IntSet;
+import arc.struct.LongSeq;
 import arc.struct.ObjectMap;
 import arc.struct.ObjectSet;
 import arc.struct.Seq;
+import fr.xpdustry.distributor.api.plugin.PluginListener;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import mindustry.entities.EntityGroup;
 import mindustry.gen.Entityc;
 
@@ -35,6 +44,8 @@ import mindustry.gen.Entityc;
 public final class ArcCollections {
 
     private static final Field ENTITY_GROUP_ARRAY_ACCESSOR;
+    private static final EntityGroupSnapshots SNAPSHOTS = new EntityGroupSnapshots();
+    private static final PluginListener SNAPSHOT_LISTENER = new SnapshotListener();
 
     static {
         try {
@@ -47,6 +58,16 @@ public final class ArcCollections {
 
     private ArcCollections() {}
 
+    /**
+     * Returns the listener publishing the {@link #snapshot(EntityGroup) snapshots} of the entity groups at each tick.
+     * It is registered by Distributor itself, plugins don't need to register it.
+     *
+     * @return the snapshot listener
+     */
+    public static PluginListener getSnapshotListener() {
+        return SNAPSHOT_LISTENER;
+    }
+
     /**
      * Wraps an {@link ObjectSet} into a {@link Set}.
      *
@@ -113,6 +134,31 @@ public final class ArcCollections {
         return ArcCollections.immutableList(getArray(group));
     }
 
+    /**
+     * Returns an immutable copy of an {@link EntityGroup} that can be read from any thread, unlike the lists wrapping
+     * it. On the game thread, it is a copy of the current content of the group. On other threads, it is the copy
+     * published by the game thread at the start of the current tick, the first call for a group taking an immediate
+     * best-effort copy instead. Groups which are not read for a while stop being copied.
+     *
+     * @param group the entity group
+     * @param <E> the entity type
+     * @return the snapshot of the {@link EntityGroup}
+     */
+    public static <E extends Entityc> List<E> snapshot(final EntityGroup<E> group) {
+        return snapshotOf(group).elements();
+    }
+
+    /**
+     * Returns whether the current thread is the game thread, the only one allowed to read entity groups directly.
+     */
+    static boolean isGameThread() {
+        return SNAPSHOTS.isGameThread();
+    }
+
+    static <E extends Entityc> EntityGroupSnapshots.Snapshot<E> snapshotOf(final EntityGroup<E> group) {
+        return SNAPSHOTS.get(group, getArray(group));
+    }
+
     /**
      * Wraps an {@link ObjectMap} into a {@link Map}.
      *
@@ -137,6 +183,145 @@ public final class ArcCollections {
         return Collections.unmodifiableMap(new ArcMap<>(map));
     }
 
+    /**
+     * Wraps an {@link IntSeq} into a {@link List}. The iterator of the returned list is a
+     * {@link PrimitiveIterator.OfInt}, see {@link #iterator(IntSeq)} to iterate it without boxing.
+     *
+     * @param seq the arc int list
+     * @return the wrapped {@link IntSeq}
+     */
+    public static List<Integer> mutableList(final IntSeq seq) {
+        return new ArcIntList(seq);
+    }
+
+    /**
+     * Wraps an {@link IntSeq} into an immutable {@link List}. Unlike {@link Collections#unmodifiableList(List)},
+     * the returned list keeps the primitive iterator and spliterator of {@link #mutableList(IntSeq)}.
+     *
+     * @param seq the arc int list
+     * @return the wrapped {@link IntSeq}
+     */
+    public static List<Integer> immutableList(final IntSeq seq) {
+        return new ArcIntList(seq, true);
+    }
+
+    /**
+     * Wraps a {@link LongSeq} into a {@link List}. The iterator of the returned list is a
+     * {@link PrimitiveIterator.OfLong}, see {@link #iterator(LongSeq)} to iterate it without boxing.
+     *
+     * @param seq the arc long list
+     * @return the wrapped {@link LongSeq}
+     */
+    public static List<Long> mutableList(final LongSeq seq) {
+        return new ArcLongList(seq);
+    }
+
+    /**
+     * Wraps a {@link LongSeq} into an immutable {@link List}. Unlike {@link Collections#unmodifiableList(List)},
+     * the returned list keeps the primitive iterator and spliterator of {@link #mutableList(LongSeq)}.
+     *
+     * @param seq the arc long list
+     * @return the wrapped {@link LongSeq}
+     */
+    public static List<Long> immutableList(final LongSeq seq) {
+        return new ArcLongList(seq, true);
+    }
+
+    /**
+     * Wraps an {@link IntSet} into a {@link Set}. The iterator of the returned set is a
+     * {@link PrimitiveIterator.OfInt}, see {@link #iterator(IntSet)} to iterate it without boxing.
+     *
+     * @param set the arc int set
+     * @return the wrapped {@link IntSet}
+     */
+    public static Set<Integer> mutableSet(final IntSet set) {
+        return new ArcIntSet(set);
+    }
+
+    /**
+     * Wraps an {@link IntSet} into an immutable {@link Set}. Unlike {@link Collections#unmodifiableSet(Set)},
+     * the returned set keeps the primitive iterator of {@link #mutableSet(IntSet)}.
+     *
+     * @param set the arc int set
+     * @return the wrapped {@link IntSet}
+     */
+    public static Set<Integer> immutableSet(final IntSet set) {
+        return new ArcIntSet(set, true);
+    }
+
+    /**
+     * Wraps an {@link IntMap} into a {@link Map}.
+     *
+     * @param map the arc int map
+     * @param <V> the value type
+     * @return the wrapped {@link IntMap}
+     */
+    public static <V> Map<Integer, V> mutableMap(final IntMap<V> map) {
+        return new ArcIntMap<>(map);
+    }
+
+    /**
+     * Wraps an {@link IntMap} into an immutable {@link Map}. Unlike {@link Collections#unmodifiableMap(Map)},
+     * the returned map keeps the lookups without boxing of {@link #mutableMap(IntMap)}.
+     *
+     * @param map the arc int map
+     * @param <V> the value type
+     * @return the wrapped {@link IntMap}
+     */
+    public static <V> Map<Integer, V> immutableMap(final IntMap<V> map) {
+        return new ArcIntMap<>(map, true);
+    }
+
+    /**
+     * Returns a primitive iterator over an {@link IntSeq}.
+     *
+     * @param seq the arc int list
+     * @return the iterator
+     */
+    public static PrimitiveIterator.OfInt iterator(final IntSeq seq) {
+        return new ArcIntList(seq).iterator();
+    }
+
+    /**
+     * Returns a primitive iterator over a {@link LongSeq}.
+     *
+     * @param seq the arc long list
+     * @return the iterator
+     */
+    public static PrimitiveIterator.OfLong iterator(final LongSeq seq) {
+        return new ArcLongList(seq).iterator();
+    }
+
+    /**
+     * Returns a primitive iterator over an {@link IntSet}.
+     *
+     * @param set the arc int set
+     * @return the iterator
+     */
+    public static PrimitiveIterator.OfInt iterator(final IntSet set) {
+        return new ArcIntSet(set).iterator();
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} over an {@link IntSeq}.
+     *
+     * @param seq the arc int list
+     * @return the stream
+     */
+    public static IntStream stream(final IntSeq seq) {
+        return Arrays.stream(seq.items, 0, seq.size);
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} over a {@link LongSeq}.
+     *
+     * @param seq the arc long list
+     * @return the stream
+     */
+    public static LongStream stream(final LongSeq seq) {
+        return Arrays.stream(seq.items, 0, seq.size);
+    }
+
     @SuppressWarnings("unchecked")
     private static <E extends Entityc> Seq<E> getArray(final EntityGroup<E> group) {
         try {
@@ -145,4 +330,12 @@ public final class ArcCollections {
             throw new RuntimeException(e);
         }
     }
+
+    private static final class SnapshotListener implements PluginListener {
+
+        @Override
+        public void onPluginUpdate() {
+            SNAPSHOTS.publish();
+        }
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import arc.struct.IntMap;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A wrapper {@link Map} for an {@link IntMap}.
+ * Lookups unbox the key once and {@link #forEach(BiConsumer)} walks the map without allocating entries.
+ * A read-only instance throws {@link UnsupportedOperationException} on modifications.
+ *
+ * @param <V> the type of the values
+ */
+final class ArcIntMap<V> extends AbstractMap<Integer, V> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -8262329263781634263L;
+
+    private final IntMap<V> map;
+    private final boolean readOnly;
+    private transient @Nullable EntrySet entries = null;
+
+    ArcIntMap(final IntMap<V> map) {
+        this(map, false);
+    }
+
+    ArcIntMap(final IntMap<V> map, final boolean readOnly) {
+        this.map = map;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public int size() {
+        return this.map.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.map.containsValue(value, false);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return checkKey(key) && this.map.containsKey((Integer) key);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return checkKey(key) ? this.map.get((Integer) key) : null;
+    }
+
+    @Override
+    public V put(final Integer key, final V value) {
+        this.checkWritable();
+        checkKey(key);
+        return this.map.put(key, value);
+    }
+
+    @Override
+    public V remove(final Object key) {
+        this.checkWritable();
+        return checkKey(key) ? this.map.remove((Integer) key) : null;
+    }
+
+    @Override
+    public void clear() {
+        this.checkWritable();
+        this.map.clear();
+    }
+
+    @Override
+    public String toString() {
+        return this.map.toString();
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V defaultValue) {
+        return checkKey(key) ? this.map.get((Integer) key, defaultValue) : defaultValue;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super Integer, ? super V> action) {
+        for (final var entry : new IntMap.Entries<>(this.map)) {
+            action.accept(entry.key, entry.value);
+        }
+    }
+
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        if (this.entries == null) {
+            this.entries = new EntrySet();
+        }
+        return this.entries;
+    }
+
+    private void checkWritable() {
+        if (this.readOnly) {
+            throw new UnsupportedOperationException("This collection is read-only");
+        }
+    }
+
+    private static boolean checkKey(final @Nullable Object o) {
+        if (o == null) {
+            throw new NullPointerException("ArcIntMap does not support null keys");
+        }
+        return o instanceof Integer;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Integer, V>> {
+
+        @Override
+        public boolean remove(final @Nullable Object o) {
+            ArcIntMap.this.checkWritable();
+            return o instanceof final Map.Entry<?, ?> entry
+                    && entry.getKey() != null
+                    && ArcIntMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public int size() {
+            return ArcIntMap.this.map.size;
+        }
+
+        @Override
+        public void clear() {
+            ArcIntMap.this.checkWritable();
+            ArcIntMap.this.map.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<Integer, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Integer, V>> {
+
+        private final IntMap.Entries<V> entries = new IntMap.Entries<>(ArcIntMap.this.map);
+
+        @Override
+        public boolean hasNext() {
+            return this.entries.hasNext();
+        }
+
+        @Override
+        public void remove() {
+            ArcIntMap.this.checkWritable();
+            this.entries.remove();
+        }
+
+        @Override
+        public Entry<Integer, V> next() {
+            final var entry = this.entries.next();
+            return new ArcIntMapEntry(entry.key, entry.value);
+        }
+    }
+
+    private final class ArcIntMapEntry extends SimpleEntry<Integer, V> {
+
+        @Serial
+        private static final long serialVersionUID = 2741926330157395027L;
+
+        private ArcIntMapEntry(final int key, final V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(final V value) {
+            ArcIntMap.this.checkWritable();
+            ArcIntMap.this.map.put(this.getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
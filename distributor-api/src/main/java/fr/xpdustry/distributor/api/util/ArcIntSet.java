@@ -0,0 +1,117 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import arc.struct.IntSet;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A wrapper {@link java.util.Set} for an {@link IntSet}.
+ * Its iterator is primitive, so it can be traversed without boxing.
+ * A read-only instance throws {@link UnsupportedOperationException} on modifications.
+ */
+final class ArcIntSet extends AbstractSet<Integer> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6023367401725312585L;
+
+    private final IntSet set;
+    private final boolean readOnly;
+
+    ArcIntSet(final IntSet set) {
+        this(set, false);
+    }
+
+    ArcIntSet(final IntSet set, final boolean readOnly) {
+        this.set = set;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntSetIterator();
+    }
+
+    @Override
+    public int size() {
+        return this.set.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.set.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof final Integer i && this.set.contains(i);
+    }
+
+    @Override
+    public boolean add(final Integer e) {
+        this.checkWritable();
+        return this.set.add(e);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        this.checkWritable();
+        return o instanceof final Integer i && this.set.remove(i);
+    }
+
+    @Override
+    public void clear() {
+        this.checkWritable();
+        this.set.clear();
+    }
+
+    private void checkWritable() {
+        if (this.readOnly) {
+            throw new UnsupportedOperationException("This collection is read-only");
+        }
+    }
+
+    private final class IntSetIterator implements PrimitiveIterator.OfInt {
+
+        private final IntSet.IntSetIterator iterator = new IntSet.IntSetIterator(ArcIntSet.this.set);
+
+        @Override
+        public boolean hasNext() {
+            return this.iterator.hasNext;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!this.iterator.hasNext) {
+                throw new NoSuchElementException();
+            }
+            return this.iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            ArcIntSet.this.checkWritable();
+            this.iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import arc.struct.LongSeq;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A wrapper {@link java.util.List} for an {@link LongSeq}.
+ * Its iterator and spliterator are primitive, so they can be traversed without boxing.
+ * A read-only instance throws {@link UnsupportedOperationException} on modifications.
+ */
+final class ArcLongList extends AbstractList<Long> implements Serializable, RandomAccess {
+
+    @Serial
+    private static final long serialVersionUID = 4512896045672036713L;
+
+    private final LongSeq seq;
+    private final boolean readOnly;
+
+    ArcLongList(final LongSeq seq) {
+        this(seq, false);
+    }
+
+    ArcLongList(final LongSeq seq, final boolean readOnly) {
+        this.seq = seq;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public int size() {
+        return this.seq.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.seq.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof final Long l && this.seq.contains(l);
+    }
+
+    @Override
+    public Long get(final int index) {
+        Objects.checkIndex(index, this.seq.size);
+        return this.seq.items[index];
+    }
+
+    @Override
+    public Long set(final int index, final Long element) {
+        this.checkWritable();
+        Objects.checkIndex(index, this.seq.size);
+        final var old = this.seq.items[index];
+        this.seq.items[index] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(final Long element) {
+        this.checkWritable();
+        this.seq.add(element);
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final Long element) {
+        this.checkWritable();
+        Objects.checkIndex(index, this.seq.size + 1);
+        this.seq.insert(index, element);
+    }
+
+    @Override
+    public Long remove(final int index) {
+        this.checkWritable();
+        Objects.checkIndex(index, this.seq.size);
+        return this.seq.removeIndex(index);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        this.checkWritable();
+        return o instanceof final Long l && this.seq.removeValue(l);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return o instanceof final Long l ? this.seq.indexOf(l) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return o instanceof final Long l ? this.seq.lastIndexOf(l) : -1;
+    }
+
+    @Override
+    public void clear() {
+        this.checkWritable();
+        this.seq.clear();
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongSeqIterator();
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return Arrays.spliterator(this.seq.items, 0, this.seq.size);
+    }
+
+    @Override
+    public void forEach(final Consumer<? super Long> action) {
+        for (int i = 0; i < this.seq.size; i++) {
+            action.accept(this.seq.items[i]);
+        }
+    }
+
+    private void checkWritable() {
+        if (this.readOnly) {
+            throw new UnsupportedOperationException("This collection is read-only");
+        }
+    }
+
+    private final class LongSeqIterator implements PrimitiveIterator.OfLong {
+
+        private int cursor = 0;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return this.cursor < ArcLongList.this.seq.size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.cursor++;
+            return ArcLongList.this.seq.items[this.last];
+        }
+
+        @Override
+        public void forEachRemaining(final LongConsumer action) {
+            while (this.hasNext()) {
+                action.accept(this.nextLong());
+            }
+        }
+
+        @Override
+        public void remove() {
+            ArcLongList.this.checkWritable();
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+            ArcLongList.this.seq.removeIndex(this.last);
+            this.cursor = this.last;
+            this.last = -1;
+        }
+    }
+}
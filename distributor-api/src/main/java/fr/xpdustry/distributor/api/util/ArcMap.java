@@ -25,12 +25,14 @@ import java.util.AbstractMap;
 import java.util.AbstractSet;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
- * A wrapper {@link Map} for an {@link ObjectMap}.
+ * A wrapper {@link Map} for an {@link ObjectMap}. Its entries are snapshots of the iterated entries of the
+ * {@link ObjectMap}, writing through on {@link Map.Entry#setValue(Object)}, and {@link #forEach(BiConsumer)} does not
+ * allocate any entry.
  *
  * @param <K> the type of the keys
  * @param <V> the type of the values
@@ -106,6 +108,13 @@ final class ArcMap<K, V> extends AbstractMap<K, V> implements Serializable {
         return this.map.get((K) key, defaultValue);
     }
 
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        for (final var entry : new ObjectMap.Entries<>(this.map)) {
+            action.accept(entry.key, entry.value);
+        }
+    }
+
     @Override
     public Set<Entry<K, V>> entrySet() {
         if (this.entries == null) {
@@ -167,56 +176,23 @@ final class ArcMap<K, V> extends AbstractMap<K, V> implements Serializable {
         }
     }
 
-    private final class ArcMapEntry implements Map.Entry<K, V>, Serializable {
+    private final class ArcMapEntry extends SimpleEntry<K, V> {
 
         @Serial
         private static final long serialVersionUID = -2069200917533589764L;
 
-        private final K key;
-
         private ArcMapEntry(final ObjectMap.Entry<K, V> entry) {
-            this.key = entry.key;
-        }
-
-        @Override
-        public K getKey() {
-            this.checkPresent();
-            return this.key;
-        }
-
-        @Override
-        public V getValue() {
-            this.checkPresent();
-            return ArcMap.this.map.get(this.key);
+            super(entry.key, entry.value);
         }
 
         @Override
         public V setValue(final V value) {
-            this.checkPresent();
-            return ArcMap.this.map.put(this.key, value);
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            return o instanceof final Map.Entry<?, ?> entry
-                    && Objects.equals(this.key, entry.getKey())
-                    && Objects.equals(this.getValue(), entry.getValue());
-        }
-
-        @Override
-        public int hashCode() {
-            return this.key.hashCode() ^ Objects.hashCode(this.getValue());
-        }
-
-        @Override
-        public String toString() {
-            return this.key + "=" + this.getValue();
-        }
-
-        private void checkPresent() {
-            if (!ArcMap.this.map.containsKey(this.key)) {
+            // Would add back a removed key otherwise
+            if (!ArcMap.this.map.containsKey(this.getKey())) {
                 throw new IllegalStateException("The entry is no longer in the map.");
             }
+            ArcMap.this.map.put(this.getKey(), value);
+            return super.setValue(value);
         }
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import arc.struct.Seq;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import mindustry.entities.EntityGroup;
+import mindustry.gen.Entityc;
+import mindustry.gen.Posc;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Publishes immutable copies of entity groups at each tick, so they can be read safely from any thread.
+ * <p>
+ * A group is only copied once it has been requested, and stops being copied when it has not been read for a while.
+ * Reads never wait for a tick: the first read of a group from another thread takes an immediate best-effort copy,
+ * later reads return the last published copy. The game thread is the one calling {@link #publish()} at each tick,
+ * before the first one every read takes a best-effort copy.
+ */
+final class EntityGroupSnapshots {
+
+    private static final long IDLE_TICKS = 60L * 10L;
+
+    private final Map<EntityGroup<?>, Tracker<?>> trackers = new ConcurrentHashMap<>();
+    private volatile @Nullable Thread thread = null;
+    private volatile long tick = 0L;
+
+    boolean isGameThread() {
+        return this.thread == Thread.currentThread();
+    }
+
+    @SuppressWarnings("unchecked")
+    <E extends Entityc> Snapshot<E> get(final EntityGroup<E> group, final Seq<E> array) {
+        // Nothing would refresh the tracked copies before the first tick
+        if (this.tick == 0L || this.isGameThread()) {
+            return new Snapshot<>(array);
+        }
+        final var tracker = (Tracker<E>) this.trackers.computeIfAbsent(group, g -> new Tracker<>(array, this.tick));
+        tracker.access = this.tick;
+        return tracker.snapshot;
+    }
+
+    /**
+     * Publishes new copies of the tracked groups, must be called by the game thread at each tick.
+     */
+    void publish() {
+        this.thread = Thread.currentThread();
+        final var tick = ++this.tick;
+        for (final var entry : this.trackers.entrySet()) {
+            final var tracker = entry.getValue();
+            if (tick - tracker.access > IDLE_TICKS) {
+                this.trackers.remove(entry.getKey(), tracker);
+            } else {
+                tracker.publish();
+            }
+        }
+    }
+
+    /**
+     * The content of an entity group at a given time, with the positions of its entities if they have one.
+     *
+     * @param <E> the entity type
+     */
+    static final class Snapshot<E> {
+
+        private final E[] items;
+        private final List<E> elements;
+        private final float @Nullable [] xs;
+        private final float @Nullable [] ys;
+        private volatile @Nullable SpatialGrid grid = null;
+
+        private Snapshot(final Seq<E> array) {
+            // The fields are read once, since the copy can be made outside the game thread while the group changes
+            final var items = array.items;
+            final var size = Math.min(array.size, items.length);
+            var copy = Arrays.copyOf(items, size);
+            if (Arrays.asList(copy).contains(null)) {
+                copy = Arrays.stream(copy).filter(Objects::nonNull).toArray(length -> Arrays.copyOf(items, length));
+            }
+            this.items = copy;
+            this.elements = Collections.unmodifiableList(Arrays.asList(this.items));
+            if (this.items.length != 0 && this.items[0] instanceof Posc) {
+                this.xs = new float[this.items.length];
+                this.ys = new float[this.items.length];
+                for (int i = 0; i < this.items.length; i++) {
+                    final var entity = (Posc) this.items[i];
+                    this.xs[i] = entity.x();
+                    this.ys[i] = entity.y();
+                }
+            } else {
+                this.xs = null;
+                this.ys = null;
+            }
+        }
+
+        List<E> elements() {
+            return this.elements;
+        }
+
+        int size() {
+            return this.items.length;
+        }
+
+        E get(final int index) {
+            return this.items[index];
+        }
+
+        float x(final int index) {
+            return this.xs == null ? 0F : this.xs[index];
+        }
+
+        float y(final int index) {
+            return this.ys == null ? 0F : this.ys[index];
+        }
+
+        /**
+         * Returns the spatial index of the entities, built on first use.
+         */
+        SpatialGrid grid() {
+            var grid = this.grid;
+            if (grid == null) {
+                final var size = this.items.length;
+                grid = this.xs == null || this.ys == null
+                        ? new SpatialGrid(new float[size], new float[size])
+                        : new SpatialGrid(this.xs, this.ys);
+                this.grid = grid;
+            }
+            return grid;
+        }
+    }
+
+    private static final class Tracker<E> {
+
+        private final Seq<E> array;
+        private volatile Snapshot<E> snapshot;
+        private volatile long access;
+
+        private Tracker(final Seq<E> array, final long access) {
+            this.array = array;
+            this.access = access;
+            this.snapshot = new Snapshot<>(array);
+        }
+
+        /**
+     * Publishes new copies of the tracked groups, must be called by the game thread at each tick.
+     */
+    void publish() {
+            this.snapshot = new Snapshot<>(this.array);
+        }
+    }
+}
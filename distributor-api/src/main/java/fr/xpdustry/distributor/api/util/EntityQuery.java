@@ -0,0 +1,116 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import mindustry.entities.EntityGroup;
+import mindustry.game.Team;
+import mindustry.gen.Posc;
+
+/**
+ * An immutable query over the entities of an {@link EntityGroup}, such as {@code Groups.unit} or
+ * {@code Groups.player}. Each execution runs over a {@link ArcCollections#snapshot(EntityGroup) snapshot} of the
+ * group, with the positions of the entities when it was taken, so queries are safe to run from any thread.
+ * <p>
+ * Area restrictions use a spatial index of the snapshot, and large scans are split across the threads of the
+ * executor in asynchronous executions.
+ * <pre>{@code
+ * EntityQuery.of(Groups.unit)
+ *     .within(x, y, 8F * Vars.tilesize)
+ *     .team(Team.crux)
+ *     .listAsync()
+ *     .thenAccept(units -> ...);
+ * }</pre>
+ *
+ * @param <E> the entity type
+ */
+public interface EntityQuery<E extends Posc> {
+
+    /**
+     * Creates a new query matching all the entities of the given group.
+     *
+     * @param group the entity group
+     * @param <E>   the entity type
+     * @return the created query
+     */
+    static <E extends Posc> EntityQuery<E> of(final EntityGroup<E> group) {
+        return SimpleEntityQuery.create(group);
+    }
+
+    /**
+     * Restricts this query to the entities within the given circle, replacing any previous area.
+     *
+     * @param x      the x coordinate of the center, in world units
+     * @param y      the y coordinate of the center, in world units
+     * @param radius the radius of the circle, in world units
+     * @return a new query
+     */
+    EntityQuery<E> within(final float x, final float y, final float radius);
+
+    /**
+     * Restricts this query to the entities of the given team, replacing any previous team.
+     *
+     * @param team the team
+     * @return a new query
+     */
+    EntityQuery<E> team(final Team team);
+
+    /**
+     * Restricts this query to the entities matching the given predicate, in addition to the previous ones.
+     * The predicate may be called concurrently in asynchronous executions.
+     *
+     * @param predicate the predicate
+     * @return a new query
+     */
+    EntityQuery<E> filter(final Predicate<? super E> predicate);
+
+    /**
+     * Executes this query in the current thread.
+     *
+     * @return the matching entities, in the order of the group
+     */
+    List<E> list();
+
+    /**
+     * Executes this query in the current thread.
+     *
+     * @return the number of matching entities
+     */
+    int count();
+
+    /**
+     * Executes this query with the asynchronous executor of the
+     * {@link fr.xpdustry.distributor.api.scheduler.PluginScheduler#getAsyncExecutor() plugin scheduler}.
+     *
+     * @return a future completed with the matching entities, in the order of the group
+     */
+    CompletableFuture<List<E>> listAsync();
+
+    /**
+     * Executes this query with the given executor. Large scans are forked in the executor if it is a
+     * {@link java.util.concurrent.ForkJoinPool}, in the common pool otherwise.
+     *
+     * @param executor the executor
+     * @return a future completed with the matching entities, in the order of the group
+     */
+    CompletableFuture<List<E>> listAsync(final Executor executor);
+}
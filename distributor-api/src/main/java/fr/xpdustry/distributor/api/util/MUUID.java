@@ -18,25 +18,63 @@
  */
 package fr.xpdustry.distributor.api.util;
 
-import java.util.Base64;
-import java.util.Objects;
+import java.util.Arrays;
 import mindustry.gen.Player;
 import mindustry.net.Administration;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * The mindustry identity format. A combination of a UUID and a USID.
+ * <p>
+ * Both are stored as their decoded bits, so comparing and hashing MUUIDs does not involve their Base64 form. Their
+ * string forms are always the canonical padded Base64 encoding of these bits, even if the MUUID was created from
+ * strings without padding, which are equal to it.
  */
 public final class MUUID {
 
-    private final String uuid;
-    private final String usid;
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    private static final byte[] DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            DIGITS[ALPHABET.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final long uuidMostSignificantBits;
+    private final long uuidLeastSignificantBits;
+    private final long usidBits;
+    private @Nullable String uuid;
+    private @Nullable String usid;
+
+    private MUUID(final long uuidMostSignificantBits, final long uuidLeastSignificantBits, final long usidBits) {
+        this.uuidMostSignificantBits = uuidMostSignificantBits;
+        this.uuidLeastSignificantBits = uuidLeastSignificantBits;
+        this.usidBits = usidBits;
+    }
 
     private MUUID(final String uuid, final String usid) {
         checkUuid(uuid);
         checkUsid(usid);
-        this.uuid = uuid;
-        this.usid = usid;
+        // 21 digits of 6 bits and the 2 high bits of the last one make the 128 bits of the UUID
+        long msb = 0L;
+        long lsb = 0L;
+        for (int i = 0; i < 21; i++) {
+            msb = msb << 6 | lsb >>> 58;
+            lsb = lsb << 6 | DIGITS[uuid.charAt(i)];
+        }
+        this.uuidMostSignificantBits = msb << 2 | lsb >>> 62;
+        this.uuidLeastSignificantBits = lsb << 2 | DIGITS[uuid.charAt(21)] >>> 4;
+        // 10 digits of 6 bits and the 4 high bits of the last one make the 64 bits of the USID
+        long bits = 0L;
+        for (int i = 0; i < 10; i++) {
+            bits = bits << 6 | DIGITS[usid.charAt(i)];
+        }
+        this.usidBits = bits << 4 | DIGITS[usid.charAt(10)] >>> 2;
+        // Only keep the given strings if they are the canonical encoding of the bits
+        this.uuid = uuid.length() == 24 && (DIGITS[uuid.charAt(21)] & 0xF) == 0 ? uuid : null;
+        this.usid = usid.length() == 12 && (DIGITS[usid.charAt(10)] & 0x3) == 0 ? usid : null;
     }
 
     /**
@@ -50,6 +88,19 @@ public final class MUUID {
         return new MUUID(uuid, usid);
     }
 
+    /**
+     * Creates a new MUUID from the decoded bits of a UUID and USID.
+     *
+     * @param uuidMostSignificantBits  the 64 first bits of the UUID
+     * @param uuidLeastSignificantBits the 64 last bits of the UUID
+     * @param usidBits                 the 64 bits of the USID
+     * @return the MUUID
+     */
+    public static MUUID of(
+            final long uuidMostSignificantBits, final long uuidLeastSignificantBits, final long usidBits) {
+        return new MUUID(uuidMostSignificantBits, uuidLeastSignificantBits, usidBits);
+    }
+
     /**
      * Creates a new MUUID from a {@link Player}.
      *
@@ -70,6 +121,30 @@ public final class MUUID {
         return new MUUID(info.id, info.adminUsid);
     }
 
+    /**
+     * Decodes a UUID without creating a MUUID, for the lookups by UUID only.
+     *
+     * @param uuid the UUID
+     * @return the decoded bytes of the UUID
+     * @throws IllegalArgumentException if the given string is not a valid UUID
+     */
+    public static byte[] decodeUuid(final String uuid) {
+        checkUuid(uuid);
+        final var bytes = new byte[16];
+        int buffer = 0;
+        int bits = 0;
+        int index = 0;
+        for (int i = 0; index < bytes.length; i++) {
+            buffer = buffer << 6 | DIGITS[uuid.charAt(i)];
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                bytes[index++] = (byte) (buffer >>> bits);
+            }
+        }
+        return bytes;
+    }
+
     /**
      * Returns whether the given string is a valid UUID.
      *
@@ -77,12 +152,7 @@ public final class MUUID {
      * @return true if the given string is a valid UUID, false otherwise
      */
     public static boolean isUuid(final String uuid) {
-        try {
-            final var bytes = Base64.getDecoder().decode(uuid);
-            return bytes.length == 16;
-        } catch (final IllegalArgumentException e) {
-            return false;
-        }
+        return isBase64(uuid, 22, 2);
     }
 
     /**
@@ -101,12 +171,7 @@ public final class MUUID {
      * @return true if the given string is a valid USID, false otherwise
      */
     public static boolean isUsid(final String usid) {
-        try {
-            final var bytes = Base64.getDecoder().decode(usid);
-            return bytes.length == 8;
-        } catch (final IllegalArgumentException e) {
-            return false;
-        }
+        return isBase64(usid, 11, 1);
     }
 
     /**
@@ -118,10 +183,54 @@ public final class MUUID {
         }
     }
 
+    // Accepts the same inputs as the basic decoder of java.util.Base64, with or without padding
+    private static boolean isBase64(final String string, final int digits, final int padding) {
+        if (string.length() != digits && string.length() != digits + padding) {
+            return false;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            final var c = string.charAt(i);
+            if (i < digits ? c >= DIGITS.length || DIGITS[c] < 0 : c != '=') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String encode(final long high, final long low, final int bits) {
+        final var chars = new char[(bits + 23) / 24 * 4];
+        int i = 0;
+        for (int offset = 0; offset < bits; offset += 6) {
+            // Bits past the end are read as zeros
+            final long digit;
+            if (offset + 6 <= 64) {
+                digit = high >>> (58 - offset);
+            } else if (offset < 64) {
+                digit = high << (offset - 58) | low >>> (122 - offset);
+            } else if (offset + 6 <= 128) {
+                digit = low >>> (122 - offset);
+            } else {
+                digit = low << (offset - 122);
+            }
+            chars[i++] = ALPHABET.charAt((int) (digit & 0x3F));
+        }
+        Arrays.fill(chars, i, chars.length, '=');
+        return new String(chars);
+    }
+
+    private static void write(final byte[] bytes, final int offset, final long bits) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[offset + i] = (byte) (bits >>> (56 - i * 8));
+        }
+    }
+
     /**
-     * Returns the UUID.
+     * Returns the UUID, in its canonical padded form.
      */
     public String getUuid() {
+        if (this.uuid == null) {
+            this.uuid = encode(this.uuidMostSignificantBits, this.uuidLeastSignificantBits, 128);
+        }
         return this.uuid;
     }
 
@@ -129,13 +238,33 @@ public final class MUUID {
      * Returns the UUID as decoded bytes.
      */
     public byte[] getDecodedUuid() {
-        return Base64.getDecoder().decode(this.uuid);
+        final var bytes = new byte[16];
+        write(bytes, 0, this.uuidMostSignificantBits);
+        write(bytes, 8, this.uuidLeastSignificantBits);
+        return bytes;
     }
 
     /**
-     * Returns the USID.
+     * Returns the 64 first bits of the decoded UUID.
+     */
+    public long getUuidMostSignificantBits() {
+        return this.uuidMostSignificantBits;
+    }
+
+    /**
+     * Returns the 64 last bits of the decoded UUID.
+     */
+    public long getUuidLeastSignificantBits() {
+        return this.uuidLeastSignificantBits;
+    }
+
+    /**
+     * Returns the USID, in its canonical padded form.
      */
     public String getUsid() {
+        if (this.usid == null) {
+            this.usid = encode(this.usidBits, 0L, 64);
+        }
         return this.usid;
     }
 
@@ -143,22 +272,36 @@ public final class MUUID {
      * Returns the USID as decoded bytes.
      */
     public byte[] getDecodedUsid() {
-        return Base64.getDecoder().decode(this.usid);
+        final var bytes = new byte[8];
+        write(bytes, 0, this.usidBits);
+        return bytes;
+    }
+
+    /**
+     * Returns the 64 bits of the decoded USID.
+     */
+    public long getUsidBits() {
+        return this.usidBits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.uuid, this.usid);
+        int result = Long.hashCode(this.uuidMostSignificantBits);
+        result = 31 * result + Long.hashCode(this.uuidLeastSignificantBits);
+        return 31 * result + Long.hashCode(this.usidBits);
     }
 
     @Override
     public boolean equals(final @Nullable Object obj) {
         return obj == this
-                || (obj instanceof final MUUID muuid && this.uuid.equals(muuid.uuid) && this.usid.equals(muuid.usid));
+                || (obj instanceof final MUUID muuid
+                        && this.uuidMostSignificantBits == muuid.uuidMostSignificantBits
+                        && this.uuidLeastSignificantBits == muuid.uuidLeastSignificantBits
+                        && this.usidBits == muuid.usidBits);
     }
 
     @Override
     public String toString() {
-        return "MUUID{" + "uuid='" + this.uuid + '\'' + ", usid='" + this.usid + '\'' + '}';
+        return "MUUID{" + "uuid='" + this.getUuid() + '\'' + ", usid='" + this.getUsid() + '\'' + '}';
     }
 }
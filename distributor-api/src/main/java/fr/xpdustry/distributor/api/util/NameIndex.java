@@ -0,0 +1,141 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A trigram index of normalized names, for substring lookups over a large number of elements.
+ * <p>
+ * Each element is registered under every sequence of three characters of its name. A query is then only checked
+ * against the elements sharing its least common trigram, instead of every element. Queries shorter than a trigram
+ * fall back to a scan of all the names. This class is not thread-safe.
+ *
+ * @param <T> the type of the indexed elements
+ */
+final class NameIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<T, String> names = new LinkedHashMap<>();
+    private final Map<String, Set<T>> exact = new HashMap<>();
+    private final Map<Long, Set<T>> grams = new HashMap<>();
+
+    /**
+     * Indexes an element under the given normalized name, replacing its previous one if any.
+     */
+    void put(final T element, final String name) {
+        final var previous = this.names.put(element, name);
+        if (name.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            this.unlink(element, previous);
+        }
+        this.link(element, name);
+    }
+
+    void remove(final T element) {
+        final var previous = this.names.remove(element);
+        if (previous != null) {
+            this.unlink(element, previous);
+        }
+    }
+
+    void clear() {
+        this.names.clear();
+        this.exact.clear();
+        this.grams.clear();
+    }
+
+    int size() {
+        return this.names.size();
+    }
+
+    /**
+     * Finds the elements which name contains the given normalized query. If only one of them has exactly the query
+     * as a name, it is the only one returned.
+     */
+    List<T> find(final String query) {
+        return this.find(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #find(String)}, but stops after the given number of elements.
+     */
+    List<T> find(final String query, final int limit) {
+        final var matches = this.exact.get(query);
+        if (matches != null && matches.size() == 1) {
+            return Collections.singletonList(matches.iterator().next());
+        }
+
+        Collection<T> candidates = this.names.keySet();
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            final var elements = this.grams.get(gram(query, i));
+            if (elements == null) {
+                return Collections.emptyList();
+            } else if (elements.size() < candidates.size()) {
+                candidates = elements;
+            }
+        }
+
+        final List<T> result = new ArrayList<>();
+        for (final var element : candidates) {
+            if (result.size() >= limit) {
+                break;
+            } else if (this.names.get(element).contains(query)) {
+                result.add(element);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private void link(final T element, final String name) {
+        this.exact.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(element);
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            this.grams.computeIfAbsent(gram(name, i), k -> new LinkedHashSet<>()).add(element);
+        }
+    }
+
+    private void unlink(final T element, final String name) {
+        removeFrom(this.exact, name, element);
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            removeFrom(this.grams, gram(name, i), element);
+        }
+    }
+
+    private static <K, T> void removeFrom(final Map<K, Set<T>> map, final K key, final T element) {
+        final var elements = map.get(key);
+        if (elements != null && elements.remove(element) && elements.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static long gram(final String name, final int index) {
+        return (long) name.charAt(index) << 32 | (long) name.charAt(index + 1) << 16 | name.charAt(index + 2);
+    }
+}
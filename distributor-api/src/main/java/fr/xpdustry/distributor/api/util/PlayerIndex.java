@@ -0,0 +1,124 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import mindustry.game.EventType;
+import mindustry.gen.Player;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An index of the online players, with their normalized names computed once, used by {@link Players}.
+ * <p>
+ * It is only updated with the {@link EventType.PlayerJoin} and {@link EventType.PlayerLeave} events, forwarded by the
+ * listener of {@link Players}. The lookups by entity ID and UUID never lock. Since players can be renamed at any time
+ * without any event, the name lookups first check the names of the indexed players, which only costs a reference
+ * comparison per player, the names being normalized again only when they change.
+ */
+final class PlayerIndex {
+
+    private final Map<Integer, Entry> ids = new ConcurrentHashMap<>();
+    private final Map<String, Entry> uuids = new ConcurrentHashMap<>();
+    // Guarded by itself
+    private final NameIndex<Player> names = new NameIndex<>();
+
+    @Nullable Player findById(final int id) {
+        final var entry = this.ids.get(id);
+        return entry == null ? null : entry.player;
+    }
+
+    @Nullable Player findByUuid(final String uuid) {
+        final var entry = this.uuids.get(uuid);
+        return entry == null ? null : entry.player;
+    }
+
+    /**
+     * Finds the players which normalized name contains the given normalized query. If only one of them has exactly
+     * the query as a name, it is the only one returned.
+     */
+    List<Player> findByName(final String query) {
+        synchronized (this.names) {
+            for (final var entry : this.ids.values()) {
+                if (entry.name != entry.player.name()) {
+                    entry.update();
+                    this.names.put(entry.player, entry.normalized);
+                }
+            }
+            return this.names.find(query);
+        }
+    }
+
+    void add(final Player player) {
+        final var entry = new Entry(player);
+        final var previous = this.ids.put(player.id(), entry);
+        if (previous != null) {
+            this.uuids.remove(previous.uuid, previous);
+        }
+        this.uuids.put(entry.uuid, entry);
+        synchronized (this.names) {
+            if (previous != null) {
+                this.names.remove(previous.player);
+            }
+            this.names.put(player, entry.normalized);
+        }
+    }
+
+    void remove(final Player player) {
+        final var entry = this.ids.get(player.id());
+        if (entry == null || entry.player != player) {
+            return;
+        }
+        this.ids.remove(player.id(), entry);
+        this.uuids.remove(entry.uuid, entry);
+        synchronized (this.names) {
+            this.names.remove(player);
+        }
+    }
+
+    void clear() {
+        this.ids.clear();
+        this.uuids.clear();
+        synchronized (this.names) {
+            this.names.clear();
+        }
+    }
+
+    private static final class Entry {
+
+        private final Player player;
+        private final String uuid;
+        // Guarded by the name index
+        private String name;
+        private String normalized;
+
+        private Entry(final Player player) {
+            this.player = player;
+            this.uuid = player.uuid();
+            this.name = player.name();
+            this.normalized = Players.normalize(this.name);
+        }
+
+        private void update() {
+            this.name = this.player.name();
+            this.normalized = Players.normalize(this.name);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import mindustry.Vars;
+import mindustry.net.Administration.PlayerInfo;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An index of the last names of the players known by {@link Vars#netServer}, used by {@link Players}.
+ * <p>
+ * The server administration is only read from the game thread, by the listener of {@link Players}. It reloads the
+ * index when the server loads, then updates it as players join. Since a reload reads every known info, the infos
+ * changed or removed without any event are only picked up hourly or on {@link Players#reloadPlayerInfos()}. A reload
+ * only normalizes the last names which changed since the previous one. The lookups only read the index, so they can
+ * be done from any thread.
+ */
+final class PlayerInfoIndex {
+
+    // Guarded by itself
+    private final NameIndex<PlayerInfo> names = new NameIndex<>();
+    // Only accessed from the game thread
+    private Map<PlayerInfo, String> known = new IdentityHashMap<>();
+
+    /**
+     * Finds at most {@code limit} player infos which normalized last name contains the given normalized query. If
+     * only one of them has exactly the query as a last name, it is the only one returned.
+     */
+    List<PlayerInfo> findByName(final String query, final int limit) {
+        synchronized (this.names) {
+            return this.names.find(query, limit);
+        }
+    }
+
+    void reload() {
+        if (Vars.netServer == null || Vars.netServer.admins == null) {
+            return;
+        }
+        final Map<PlayerInfo, String> known = new IdentityHashMap<>();
+        final List<PlayerInfo> changed = new ArrayList<>();
+        final List<String> normalized = new ArrayList<>();
+        // Every name contains the empty string, so it returns the infos with at least one name
+        for (final var info : Vars.netServer.admins.searchNames("")) {
+            final var name = info.lastName;
+            known.put(info, name);
+            if (this.known.remove(info) != name) {
+                changed.add(info);
+                normalized.add(Players.normalize(name));
+            }
+        }
+        // The remaining infos are not known by the server anymore
+        final var removed = this.known.keySet();
+        synchronized (this.names) {
+            removed.forEach(this.names::remove);
+            for (int i = 0; i < changed.size(); i++) {
+                this.names.put(changed.get(i), normalized.get(i));
+            }
+        }
+        this.known = known;
+    }
+
+    void update(final @Nullable PlayerInfo info) {
+        if (info == null) {
+            return;
+        }
+        final var name = info.lastName;
+        if (this.known.put(info, name) != name) {
+            final var normalized = Players.normalize(name);
+            synchronized (this.names) {
+                this.names.put(info, normalized);
+            }
+        }
+    }
+
+    void clear() {
+        this.known = new IdentityHashMap<>();
+        synchronized (this.names) {
+            this.names.clear();
+        }
+    }
+}
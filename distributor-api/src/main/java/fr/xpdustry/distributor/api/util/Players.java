@@ -18,22 +18,47 @@
  */
 package fr.xpdustry.distributor.api.util;
 
+import arc.Core;
 import arc.util.Strings;
+import fr.xpdustry.distributor.api.event.EventHandler;
+import fr.xpdustry.distributor.api.plugin.PluginListener;
+import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
+import fr.xpdustry.distributor.api.scheduler.TaskHandler;
 import java.text.Normalizer;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import mindustry.game.EventType;
 import mindustry.gen.Groups;
 import mindustry.gen.Player;
+import mindustry.net.Administration.PlayerInfo;
 
 /**
  * A collection of random utilities for manipulating players.
  */
 public final class Players {
 
+    static final PlayerIndex INDEX = new PlayerIndex();
+    static final PlayerInfoIndex INFO_INDEX = new PlayerInfoIndex();
+    // Bounded since the locale strings are sent by the clients
+    private static final int MAX_CACHED_LOCALES = 256;
+    private static final Map<String, Locale> LOCALES = new ConcurrentHashMap<>();
+    private static final PluginListener INDEX_LISTENER = new IndexListener();
+
     private Players() {}
 
+    /**
+     * Returns the listener keeping the lookups of this class up to date with the players joining and leaving the
+     * server. It is registered by Distributor itself, plugins don't need to register it.
+     *
+     * @return the index listener
+     */
+    public static PluginListener getIndexListener() {
+        return INDEX_LISTENER;
+    }
+
     /**
      * Finds online players by their name or entity ID.
      *
@@ -53,55 +78,103 @@ public final class Players {
      */
     public static List<Player> findPlayers(final String query, final boolean uuid) {
         if (query.startsWith("#")) {
-            final var id = Strings.parseInt(query.substring(1), -1);
-            final var players = ArcCollections.immutableList(Groups.player).stream()
-                    .filter(p -> p.id() == id)
-                    .toList();
-            if (!players.isEmpty()) {
-                return players;
+            final var player = INDEX.findById(Strings.parseInt(query.substring(1), -1));
+            if (player != null) {
+                return Collections.singletonList(player);
             }
         }
 
         if (uuid && MUUID.isUuid(query)) {
-            return ArcCollections.immutableList(Groups.player).stream()
-                    .filter(p -> p.uuid().equals(query))
-                    .toList();
+            final var player = INDEX.findByUuid(query);
+            return player == null ? Collections.emptyList() : Collections.singletonList(player);
         }
 
-        final List<Player> result = new ArrayList<>();
-        final var normalized = normalize(query);
+        return INDEX.findByName(normalize(query));
+    }
 
-        Player match = null;
-        int matches = 0;
+    /**
+     * Finds offline players by their last name, among the players known by the server. The lookup is indexed, so it
+     * stays fast with a large number of known players.
+     *
+     * @param query the query
+     * @return the list of the infos of the matching players
+     */
+    public static List<PlayerInfo> findPlayerInfos(final String query) {
+        return findPlayerInfos(query, Integer.MAX_VALUE);
+    }
 
-        for (final var player : Groups.player) {
-            final var playerName = normalize(player.name());
-            if (playerName.equalsIgnoreCase(normalized)) {
-                match = player;
-                matches++;
-                result.add(player);
-            } else if (playerName.contains(normalized)) {
-                result.add(player);
-            }
-        }
+    /**
+     * Finds at most {@code limit} offline players by their last name, among the players known by the server.
+     *
+     * @param query the query
+     * @param limit the maximum number of returned infos
+     * @return the list of the infos of the matching players
+     */
+    public static List<PlayerInfo> findPlayerInfos(final String query, final int limit) {
+        return INFO_INDEX.findByName(normalize(query), limit);
+    }
 
-        return matches == 1 ? Collections.singletonList(match) : Collections.unmodifiableList(result);
+    /**
+     * Reloads the index of {@link #findPlayerInfos(String)} from the server administration on the next tick. The
+     * index is already updated when players join, so this is only needed after changing or removing player infos
+     * otherwise, such as with admin commands. Since a reload reads every known player info, it is otherwise only done
+     * once per hour.
+     */
+    public static void reloadPlayerInfos() {
+        Core.app.post(INFO_INDEX::reload);
     }
 
     /**
-     * Returns the locale of a player.
+     * Returns the locale of a player. The parsed locales are cached, so this method is cheap to call repeatedly.
      *
      * @param player the player
      * @return the locale of the player
      */
     public static Locale getLocale(final Player player) {
-        return Locale.forLanguageTag(player.locale().replace('_', '-'));
+        final var tag = player.locale();
+        final var locale = LOCALES.get(tag);
+        if (locale != null) {
+            return locale;
+        }
+        final var parsed = Locale.forLanguageTag(tag.replace('_', '-'));
+        if (LOCALES.size() < MAX_CACHED_LOCALES) {
+            LOCALES.put(tag, parsed);
+        }
+        return parsed;
     }
 
     // https://stackoverflow.com/a/4122207
-    private static String normalize(final String string) {
+    static String normalize(final String string) {
         return Normalizer.normalize(Strings.stripColors(string), Normalizer.Form.NFD)
                 .replaceAll("[^\\p{ASCII}]", "")
                 .toLowerCase(Locale.ROOT);
     }
+
+    private static final class IndexListener implements PluginListener {
+
+        @Override
+        public void onPluginInit() {
+            INDEX.clear();
+            Groups.player.each(INDEX::add);
+            INFO_INDEX.clear();
+            INFO_INDEX.reload();
+        }
+
+        @EventHandler
+        public void onPlayerJoin(final EventType.PlayerJoin event) {
+            INDEX.add(event.player);
+            INFO_INDEX.update(event.player.getInfo());
+        }
+
+        @EventHandler
+        public void onPlayerLeave(final EventType.PlayerLeave event) {
+            INDEX.remove(event.player);
+        }
+
+        // Reads every known player info in a single tick, so it is rare
+        @TaskHandler(interval = 1L, unit = MindustryTimeUnit.HOURS)
+        public void onPlayerInfoReload() {
+            INFO_INDEX.reload();
+        }
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import fr.xpdustry.distributor.api.DistributorProvider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import mindustry.entities.EntityGroup;
+import mindustry.game.Team;
+import mindustry.gen.Player;
+import mindustry.gen.Posc;
+import mindustry.gen.Teamc;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class SimpleEntityQuery<E extends Posc> implements EntityQuery<E> {
+
+    private static final int SPLIT_THRESHOLD = 2048;
+
+    private final EntityGroup<E> group;
+    private final float x;
+    private final float y;
+    private final float radius;
+    private final @Nullable Team team;
+    private final @Nullable Predicate<? super E> predicate;
+
+    private SimpleEntityQuery(
+            final EntityGroup<E> group,
+            final float x,
+            final float y,
+            final float radius,
+            final @Nullable Team team,
+            final @Nullable Predicate<? super E> predicate) {
+        this.group = group;
+        this.x = x;
+        this.y = y;
+        this.radius = radius;
+        this.team = team;
+        this.predicate = predicate;
+    }
+
+    static <E extends Posc> SimpleEntityQuery<E> create(final EntityGroup<E> group) {
+        return new SimpleEntityQuery<>(group, 0F, 0F, -1F, null, null);
+    }
+
+    @Override
+    public EntityQuery<E> within(final float x, final float y, final float radius) {
+        if (radius < 0F) {
+            throw new IllegalArgumentException("The radius can't be negative: " + radius);
+        }
+        return new SimpleEntityQuery<>(this.group, x, y, radius, this.team, this.predicate);
+    }
+
+    @Override
+    public EntityQuery<E> team(final Team team) {
+        return new SimpleEntityQuery<>(this.group, this.x, this.y, this.radius, team, this.predicate);
+    }
+
+    @Override
+    public EntityQuery<E> filter(final Predicate<? super E> predicate) {
+        final var previous = this.predicate;
+        final Predicate<? super E> combined =
+                previous == null ? predicate : entity -> previous.test(entity) && predicate.test(entity);
+        return new SimpleEntityQuery<>(this.group, this.x, this.y, this.radius, this.team, combined);
+    }
+
+    @Override
+    public List<E> list() {
+        final var scan = new Scan(ArcCollections.snapshotOf(this.group));
+        return scan.run(0, scan.size());
+    }
+
+    @Override
+    public int count() {
+        final var scan = new Scan(ArcCollections.snapshotOf(this.group));
+        var count = 0;
+        for (int i = 0; i < scan.size(); i++) {
+            if (scan.matches(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public CompletableFuture<List<E>> listAsync() {
+        return this.listAsync(DistributorProvider.get().getPluginScheduler().getAsyncExecutor());
+    }
+
+    @Override
+    public CompletableFuture<List<E>> listAsync(final Executor executor) {
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    final var scan = new Scan(ArcCollections.snapshotOf(this.group));
+                    return new ScanTask(scan, 0, scan.size()).invoke();
+                },
+                executor);
+    }
+
+    private static @Nullable Team getTeam(final Posc entity) {
+        if (entity instanceof final Teamc teamc) {
+            return teamc.team();
+        } else if (entity instanceof final Player player) {
+            return player.team();
+        }
+        return null;
+    }
+
+    private final class Scan {
+
+        private final EntityGroupSnapshots.Snapshot<E> snapshot;
+        private final int @Nullable [] candidates;
+
+        private Scan(final EntityGroupSnapshots.Snapshot<E> snapshot) {
+            final var query = SimpleEntityQuery.this;
+            this.snapshot = snapshot;
+            this.candidates = query.radius < 0F ? null : snapshot.grid().query(query.x, query.y, query.radius);
+        }
+
+        private int size() {
+            return this.candidates == null ? this.snapshot.size() : this.candidates.length;
+        }
+
+        private boolean matches(final int position) {
+            final var index = this.candidates == null ? position : this.candidates[position];
+            final var query = SimpleEntityQuery.this;
+            if (query.radius >= 0F) {
+                final var dx = this.snapshot.x(index) - query.x;
+                final var dy = this.snapshot.y(index) - query.y;
+                if (dx * dx + dy * dy > query.radius * query.radius) {
+                    return false;
+                }
+            }
+            final var entity = this.snapshot.get(index);
+            return (query.team == null || getTeam(entity) == query.team)
+                    && (query.predicate == null || query.predicate.test(entity));
+        }
+
+        private List<E> run(final int from, final int to) {
+            final List<E> result = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (this.matches(i)) {
+                    result.add(this.snapshot.get(this.candidates == null ? i : this.candidates[i]));
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+    }
+
+    private final class ScanTask extends RecursiveTask<List<E>> {
+
+        private final Scan scan;
+        private final int from;
+        private final int to;
+
+        private ScanTask(final Scan scan, final int from, final int to) {
+            this.scan = scan;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<E> compute() {
+            if (this.to - this.from <= SPLIT_THRESHOLD) {
+                return this.scan.run(this.from, this.to);
+            }
+            final var middle = (this.from + this.to) >>> 1;
+            final var left = new ScanTask(this.scan, this.from, middle);
+            left.fork();
+            final var right = new ScanTask(this.scan, middle, this.to).compute();
+            final List<E> result = new ArrayList<>(left.join());
+            result.addAll(right);
+            return Collections.unmodifiableList(result);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import java.util.Arrays;
+
+/**
+ * An immutable uniform grid over a set of points, stored as an array of point indices sorted by cell.
+ * The grid covers the bounding box of the points, its cells growing when the box is too large.
+ */
+final class SpatialGrid {
+
+    private static final float CELL_SIZE = 8F * 8F;
+    private static final int MAX_CELLS_PER_SIDE = 512;
+
+    private final float minX;
+    private final float minY;
+    private final float cellSize;
+    private final int width;
+    private final int height;
+    private final int[] starts;
+    private final int[] indices;
+
+    SpatialGrid(final float[] xs, final float[] ys) {
+        var minX = Float.POSITIVE_INFINITY;
+        var minY = Float.POSITIVE_INFINITY;
+        var maxX = Float.NEGATIVE_INFINITY;
+        var maxY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < xs.length; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        if (xs.length == 0) {
+            minX = minY = maxX = maxY = 0F;
+        }
+
+        this.minX = minX;
+        this.minY = minY;
+        this.cellSize = Math.max(CELL_SIZE, Math.max(maxX - minX, maxY - minY) / MAX_CELLS_PER_SIDE);
+        this.width = this.cellOf(maxX, minX) + 1;
+        this.height = this.cellOf(maxY, minY) + 1;
+
+        // Counting sort of the points by cell
+        final var cells = new int[xs.length];
+        this.starts = new int[this.width * this.height + 1];
+        for (int i = 0; i < xs.length; i++) {
+            cells[i] = this.cellOf(ys[i], minY) * this.width + this.cellOf(xs[i], minX);
+            this.starts[cells[i] + 1]++;
+        }
+        for (int i = 0; i < this.width * this.height; i++) {
+            this.starts[i + 1] += this.starts[i];
+        }
+        this.indices = new int[xs.length];
+        final var cursors = Arrays.copyOf(this.starts, this.starts.length - 1);
+        for (int i = 0; i < xs.length; i++) {
+            this.indices[cursors[cells[i]]++] = i;
+        }
+    }
+
+    /**
+     * Returns the sorted indices of the points in the cells overlapping the given circle, some of them being outside
+     * it.
+     */
+    int[] query(final float x, final float y, final float radius) {
+        final var x0 = this.clamp(this.cellOf(x - radius, this.minX), this.width);
+        final var x1 = this.clamp(this.cellOf(x + radius, this.minX), this.width);
+        final var y0 = this.clamp(this.cellOf(y - radius, this.minY), this.height);
+        final var y1 = this.clamp(this.cellOf(y + radius, this.minY), this.height);
+
+        var count = 0;
+        for (int cy = y0; cy <= y1; cy++) {
+            count += this.starts[cy * this.width + x1 + 1] - this.starts[cy * this.width + x0];
+        }
+        final var result = new int[count];
+        var cursor = 0;
+        for (int cy = y0; cy <= y1; cy++) {
+            final var from = this.starts[cy * this.width + x0];
+            final var to = this.starts[cy * this.width + x1 + 1];
+            System.arraycopy(this.indices, from, result, cursor, to - from);
+            cursor += to - from;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int cellOf(final float position, final float origin) {
+        return (int) Math.floor((position - origin) / this.cellSize);
+    }
+
+    private int clamp(final int cell, final int size) {
+        return Math.max(0, Math.min(size - 1, cell));
+    }
+}
@@ -35,6 +35,7 @@ public final class PlayerInfoArgumentTest
         extends AbstractPlayerLookupArgumentTest<PlayerInfoArgument<Object>, PlayerInfo> {
 
     private static final String CREATED_UUID = "DAAAAAAAAAAAAAAAAAAAAA==";
+    private static final String OFFLINE_UUID = "EAAAAAAAAAAAAAAAAAAAAA==";
 
     @BeforeEach
     void createAdministration() {
@@ -65,6 +66,21 @@ public final class PlayerInfoArgumentTest
                 .isEqualTo(this.getPlayer1().getInfo());
     }
 
+    @Test
+    void test_find_offline_by_name() {
+        Vars.netServer.admins.updatePlayerJoined(OFFLINE_UUID, "0.0.0.0", "[blue]offline");
+        final var argument = this.createArgument();
+        final var result = argument.getParser().parse(this.getCommandContext(), this.createArgumentQueue("offline"));
+        assertThat(result.getParsedValue()).isPresent().get().extracting("id").isEqualTo(OFFLINE_UUID);
+    }
+
+    @Test
+    void test_suggest_offline_names() {
+        Vars.netServer.admins.updatePlayerJoined(OFFLINE_UUID, "0.0.0.0", "[blue]offline");
+        final var argument = this.createArgument();
+        assertThat(argument.getParser().suggestions(this.getCommandContext(), "off")).containsExactly("offline");
+    }
+
     @Override
     protected PlayerInfoArgument<Object> createArgument() {
         return PlayerInfoArgument.of("argument");
@@ -0,0 +1,90 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.localization;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class DirectoryLocalizationSourceImplTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    @TempDir
+    private Path directory;
+
+    private DirectoryLocalizationSource source;
+
+    @AfterEach
+    void close() throws IOException {
+        if (this.source != null) {
+            this.source.close();
+        }
+    }
+
+    @Test
+    void test_load() throws IOException {
+        Files.writeString(this.directory.resolve("bundle_fr.properties"), "greeting=Bonjour {0}!\n");
+        Files.writeString(this.directory.resolve("bundle_en_US.properties"), "greeting=Hello {0}!\n");
+        Files.writeString(this.directory.resolve("other_en.properties"), "greeting=Hi {0}!\n");
+
+        this.source = DirectoryLocalizationSource.create(this.directory, "bundle", Locale.US);
+
+        assertThat(this.source.format("greeting", Locale.FRENCH, "toi")).isEqualTo("Bonjour toi!");
+        assertThat(this.source.format("greeting", Locale.US, "you")).isEqualTo("Hello you!");
+        assertThat(this.source.format("greeting", Locale.CHINESE, "you")).isEqualTo("Hello you!");
+    }
+
+    @Test
+    void test_load_ignores_other_base_names() throws IOException {
+        Files.writeString(this.directory.resolve("bundle_fr.properties"), "greeting=Bonjour {0}!\n");
+        Files.writeString(this.directory.resolve("bundle_extra_fr.properties"), "farewell=Au revoir {0}!\n");
+
+        this.source = DirectoryLocalizationSource.create(this.directory, "bundle", Locale.FRENCH);
+
+        assertThat(this.source.format("greeting", Locale.FRENCH, "toi")).isEqualTo("Bonjour toi!");
+        final var extra = new Locale.Builder().setLanguageTag("extra-FR").build();
+        assertThat(this.source.localize("farewell", extra)).isNull();
+        assertThat(this.source.localize("farewell", Locale.FRENCH)).isNull();
+    }
+
+    @Test
+    void test_reload() throws IOException, InterruptedException {
+        Files.writeString(this.directory.resolve("bundle_fr.properties"), "greeting=Bonjour {0}!\n");
+        this.source = DirectoryLocalizationSource.create(this.directory, "bundle", Locale.FRENCH);
+
+        Files.writeString(this.directory.resolve("bundle_fr.properties"), "greeting=Salut {0}!\n");
+        Files.writeString(this.directory.resolve("bundle_de.properties"), "greeting=Hallo {0}!\n");
+
+        final var start = System.currentTimeMillis();
+        while (!this.source.format("greeting", Locale.GERMAN, "du").equals("Hallo du!")
+                && System.currentTimeMillis() - start < TIMEOUT_MILLIS) {
+            Thread.sleep(50L);
+        }
+
+        assertThat(this.source.format("greeting", Locale.GERMAN, "du")).isEqualTo("Hallo du!");
+        assertThat(this.source.format("greeting", Locale.FRENCH, "toi")).isEqualTo("Salut toi!");
+    }
+}
@@ -18,8 +18,13 @@
  */
 package fr.xpdustry.distributor.api.localization;
 
+import fr.xpdustry.distributor.api.TestPlayer;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import mindustry.gen.Player;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -70,6 +75,43 @@ public final class LocalizationSourceRegistryImplTest {
         assertThat(this.registry.localize("greeting", Locale.FRENCH)).isNull();
     }
 
+    @Test
+    void test_localize_after_register() {
+        assertThat(this.registry.localize("greeting", Locale.FRENCH)).isNull();
+
+        this.registry.register("greeting", Locale.ENGLISH, new MessageFormat("Hello {0}!", Locale.ENGLISH));
+        assertThat(this.registry.localize("greeting", Locale.FRENCH))
+                .isNotNull()
+                .extracting(MessageFormat::toPattern)
+                .isEqualTo("Hello {0}!");
+
+        this.registry.register("greeting", Locale.FRENCH, new MessageFormat("Bonjour {0}!", Locale.FRENCH));
+        assertThat(this.registry.localize("greeting", Locale.FRENCH))
+                .isNotNull()
+                .extracting(MessageFormat::toPattern)
+                .isEqualTo("Bonjour {0}!");
+    }
+
+    @Test
+    void test_localize_many_locales_and_missing_keys() {
+        this.registry.register("greeting", Locale.FRENCH, new MessageFormat("Bonjour {0}!", Locale.FRENCH));
+        this.registry.register("greeting", Locale.ENGLISH, new MessageFormat("Hello {0}!", Locale.ENGLISH));
+
+        // More than the caches hold, the lookups past the limits are still resolved
+        for (int i = 0; i < 2000; i++) {
+            assertThat(this.registry.localize("greeting", new Locale("l" + i, "FR")))
+                    .isNotNull()
+                    .extracting(MessageFormat::toPattern)
+                    .isEqualTo("Hello {0}!");
+            assertThat(this.registry.localize("missing" + i, Locale.FRENCH)).isNull();
+        }
+
+        assertThat(this.registry.localize("greeting", Locale.CANADA_FRENCH))
+                .isNotNull()
+                .extracting(MessageFormat::toPattern)
+                .isEqualTo("Bonjour {0}!");
+    }
+
     @Test
     void test_illegal_register() {
         this.registry.register("greeting", Locale.FRENCH, new MessageFormat("Bonjour {0}!", Locale.FRENCH));
@@ -77,4 +119,26 @@ public final class LocalizationSourceRegistryImplTest {
                         "greeting", Locale.FRENCH, new MessageFormat("Bonjour {0}!", Locale.FRENCH)))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    void test_broadcast() {
+        this.registry.register("greeting", Locale.FRENCH, new MessageFormat("Bonjour {0}!", Locale.FRENCH));
+        this.registry.register("greeting", Locale.ENGLISH, new MessageFormat("Hello {0}!", Locale.ENGLISH));
+
+        final var players = new ArrayList<Player>();
+        for (final var locale : List.of("fr", "fr_CA", "en", "en_US", "zh")) {
+            final var player = new TestPlayer("player-" + locale, "AAAAAAAAAAAAAAAAAAAAAA==");
+            player.locale(locale);
+            players.add(player);
+        }
+
+        final var messages = new ArrayList<Map.Entry<Player, String>>();
+        this.registry.broadcast(
+                players, (player, message) -> messages.add(Map.entry(player, message)), "greeting", "you");
+
+        assertThat(messages)
+                .extracting(Map.Entry::getValue)
+                .containsExactly("Bonjour you!", "Bonjour you!", "Hello you!", "Hello you!", "Hello you!");
+        assertThat(messages).extracting(Map.Entry::getKey).containsExactlyElementsOf(players);
+    }
 }
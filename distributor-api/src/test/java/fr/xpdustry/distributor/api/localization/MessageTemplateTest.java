@@ -0,0 +1,78 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.localization;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class MessageTemplateTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "Hello {0}!",
+                "It''s {0} and '{1}' {1}",
+                "'{'{0}'}'",
+                "{0,number,#.##} and {1}",
+                "{0,choice,0#none|1#one {1}|1<many}",
+                "{0}{1}{2}",
+                "no arguments"
+            })
+    void test_format_like_message_format(final String pattern) {
+        for (final var locale : new Locale[] {Locale.ENGLISH, Locale.FRENCH}) {
+            final var template = MessageTemplate.of(pattern, locale);
+            final var format = new MessageFormat(pattern, locale);
+            final Object[] args = {1234.5678D, "text"};
+            assertThat(template.format(args)).isEqualTo(format.format(args));
+        }
+    }
+
+    @Test
+    void test_format_missing_and_null_args() {
+        final var template = MessageTemplate.of("{0} {1}", Locale.ENGLISH);
+        assertThat(template.format((Object) null)).isEqualTo("null {1}");
+        assertThat(template.format()).isEqualTo("{0} {1}");
+    }
+
+    @Test
+    void test_format_nested() {
+        final var inner = MessageTemplate.of("[{0}]", Locale.ENGLISH);
+        final var outer = MessageTemplate.of("{0} and {1}", Locale.ENGLISH);
+        final var arg = new Object() {
+            @Override
+            public String toString() {
+                return inner.format("inner");
+            }
+        };
+        assertThat(outer.format(arg, arg)).isEqualTo("[inner] and [inner]");
+    }
+
+    @Test
+    void test_format_append() {
+        final var template = MessageTemplate.of("Hello {0}!", Locale.ENGLISH);
+        final var builder = new StringBuilder("> ");
+        assertThat(template.format(builder, "world")).isSameAs(builder);
+        assertThat(builder.toString()).isEqualTo("> Hello world!");
+    }
+}
@@ -19,6 +19,7 @@
 package fr.xpdustry.distributor.api.localization;
 
 import java.text.MessageFormat;
+import java.util.HashMap;
 import java.util.Locale;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,4 +53,50 @@ public final class MultiLocalizationSourceImplTest {
                 .extracting(MessageFormat::toPattern)
                 .isEqualTo("router");
     }
+
+    @Test
+    void test_lookup_after_register() {
+        final var source1 = new LocalizationSourceRegistryImpl(Locale.FRENCH);
+        final var source2 = new LocalizationSourceRegistryImpl(Locale.FRENCH);
+        this.source.addLocalizationSource(source1);
+        this.source.addLocalizationSource(source2);
+
+        assertThat(this.source.localize("greeting", Locale.FRENCH)).isNull();
+
+        source1.register("greeting", Locale.FRENCH, new MessageFormat("Bonjour {0}!", Locale.FRENCH));
+        assertThat(this.source.format("greeting", Locale.FRENCH, "toi")).isEqualTo("Bonjour toi!");
+
+        source2.register("greeting", Locale.FRENCH, new MessageFormat("Salut {0}!", Locale.FRENCH));
+        assertThat(this.source.format("greeting", Locale.FRENCH, "toi")).isEqualTo("Salut toi!");
+
+        source2.unregister("greeting");
+        assertThat(this.source.format("greeting", Locale.FRENCH, "toi")).isEqualTo("Bonjour toi!");
+    }
+
+    @Test
+    void test_lookup_custom_source() {
+        final var formats = new HashMap<String, MessageFormat>();
+        this.source.addLocalizationSource((key, locale) -> formats.get(key));
+
+        assertThat(this.source.localize("greeting", Locale.FRENCH)).isNull();
+
+        formats.put("greeting", new MessageFormat("Bonjour {0}!", Locale.FRENCH));
+        assertThat(this.source.format("greeting", Locale.FRENCH, "toi")).isEqualTo("Bonjour toi!");
+    }
+
+    @Test
+    void test_lookup_nested_custom_source() {
+        final var formats = new HashMap<String, MessageFormat>();
+        final var nested = new MultiLocalizationSourceImpl();
+        this.source.addLocalizationSource(nested);
+
+        assertThat(this.source.localize("greeting", Locale.FRENCH)).isNull();
+
+        // Added after the nested source, which must stop the parent from caching too
+        nested.addLocalizationSource((key, locale) -> formats.get(key));
+        assertThat(this.source.localize("greeting", Locale.FRENCH)).isNull();
+
+        formats.put("greeting", new MessageFormat("Bonjour {0}!", Locale.FRENCH));
+        assertThat(this.source.format("greeting", Locale.FRENCH, "toi")).isEqualTo("Bonjour toi!");
+    }
 }
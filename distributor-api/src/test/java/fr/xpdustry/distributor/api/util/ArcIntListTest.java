@@ -0,0 +1,110 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import arc.struct.IntSeq;
+import com.google.common.collect.testing.ListTestSuiteBuilder;
+import com.google.common.collect.testing.SampleElements;
+import com.google.common.collect.testing.TestListGenerator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.ListFeature;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import junit.framework.TestResult;
+import junit.framework.TestSuite;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class ArcIntListTest {
+
+    @Test
+    void testSuite() {
+        final var suite = new TestSuite();
+        suite.addTest(ListTestSuiteBuilder.using(new TestArcIntListGenerator())
+                .named("ArcIntList")
+                .withFeatures(List.of(ListFeature.values()))
+                .withFeatures(List.of(CollectionSize.ANY, CollectionFeature.SUBSET_VIEW))
+                .createTestSuite());
+        final var result = new TestResult();
+        suite.run(result);
+        if (!result.wasSuccessful()) {
+            final var builder = new StringBuilder();
+            builder.append("ArcIntList Test suite failed:\n");
+            result.failures().asIterator().forEachRemaining(failure -> builder.append(failure.toString())
+                    .append('\n'));
+            result.errors().asIterator().forEachRemaining(error -> builder.append(error.toString())
+                    .append('\n'));
+            Assertions.fail(builder.toString());
+        }
+    }
+
+    @Test
+    void test_primitive_iterator() {
+        final var seq = new IntSeq();
+        seq.add(1);
+        seq.add(2);
+        seq.add(3);
+        final var iterator = ArcCollections.iterator(seq);
+        var sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        Assertions.assertThat(sum).isEqualTo(6);
+        Assertions.assertThat(ArcCollections.stream(seq).sum()).isEqualTo(6);
+    }
+
+    @Test
+    void test_immutable_list() {
+        final var seq = new IntSeq();
+        seq.add(1);
+        final var list = ArcCollections.immutableList(seq);
+        Assertions.assertThat(list.iterator()).isInstanceOf(PrimitiveIterator.OfInt.class);
+        Assertions.assertThatThrownBy(() -> list.add(2)).isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> list.iterator().remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        seq.add(2);
+        Assertions.assertThat(list).containsExactly(1, 2);
+    }
+
+    private static final class TestArcIntListGenerator implements TestListGenerator<Integer> {
+
+        @Override
+        public SampleElements<Integer> samples() {
+            return new SampleElements.Ints();
+        }
+
+        @Override
+        public List<Integer> create(final Object... elements) {
+            final var list = new ArcIntList(new IntSeq());
+            for (final var element : elements) list.add((Integer) element);
+            return list;
+        }
+
+        @Override
+        public Integer[] createArray(final int length) {
+            return new Integer[length];
+        }
+
+        @Override
+        public Iterable<Integer> order(final List<Integer> insertionOrder) {
+            return insertionOrder;
+        }
+    }
+}
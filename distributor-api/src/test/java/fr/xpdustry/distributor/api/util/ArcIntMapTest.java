@@ -0,0 +1,128 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import arc.struct.IntMap;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.MapTestSuiteBuilder;
+import com.google.common.collect.testing.SampleElements;
+import com.google.common.collect.testing.TestMapGenerator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import java.util.List;
+import java.util.Map;
+import junit.framework.TestResult;
+import junit.framework.TestSuite;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class ArcIntMapTest {
+
+    @Test
+    void testSuite() {
+        final var suite = new TestSuite();
+        suite.addTest(MapTestSuiteBuilder.using(new TestArcIntMapGenerator())
+                .named("ArcIntMap")
+                .withFeatures(
+                        List.of(MapFeature.GENERAL_PURPOSE, MapFeature.ALLOWS_NULL_VALUES, MapFeature.SUPPORTS_REMOVE))
+                .withFeatures(List.of(
+                        CollectionSize.ANY,
+                        CollectionFeature.NON_STANDARD_TOSTRING,
+                        CollectionFeature.SUPPORTS_ITERATOR_REMOVE))
+                .createTestSuite());
+        final var result = new TestResult();
+        suite.run(result);
+        if (!result.wasSuccessful()) {
+            final var builder = new StringBuilder();
+            builder.append("ArcIntMap Test suite failed:\n");
+            result.failures().asIterator().forEachRemaining(failure -> builder.append(failure.toString())
+                    .append('\n'));
+            result.errors().asIterator().forEachRemaining(error -> builder.append(error.toString())
+                    .append('\n'));
+            Assertions.fail(builder.toString());
+        }
+    }
+
+    @Test
+    void test_entry_set_remove_foreign_object() {
+        final var map = new ArcIntMap<String>(new IntMap<>());
+        map.put(1, "a");
+        Assertions.assertThat(map.entrySet().remove("a")).isFalse();
+        Assertions.assertThat(map.entrySet().remove(Map.entry("1", "a"))).isFalse();
+        Assertions.assertThat(map.entrySet().remove(Map.entry(1, "a"))).isTrue();
+    }
+
+    @Test
+    void test_immutable_map() {
+        final var arc = new IntMap<String>();
+        arc.put(1, "a");
+        final var map = ArcCollections.immutableMap(arc);
+        Assertions.assertThat(map).containsEntry(1, "a");
+        Assertions.assertThatThrownBy(() -> map.put(2, "b")).isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> map.entrySet().iterator().next().setValue("b"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> map.keySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static final class TestArcIntMapGenerator implements TestMapGenerator<Integer, String> {
+
+        @Override
+        public SampleElements<Map.Entry<Integer, String>> samples() {
+            return new SampleElements<>(
+                    Helpers.mapEntry(1, "a"),
+                    Helpers.mapEntry(2, "b"),
+                    Helpers.mapEntry(3, "c"),
+                    Helpers.mapEntry(4, "d"),
+                    Helpers.mapEntry(5, "e"));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map<Integer, String> create(final Object... entries) {
+            final var map = new ArcIntMap<String>(new IntMap<>());
+            for (final var entry : entries) {
+                final var casted = (Map.Entry<Integer, String>) entry;
+                map.put(casted.getKey(), casted.getValue());
+            }
+            return map;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map.Entry<Integer, String>[] createArray(final int length) {
+            return new Map.Entry[length];
+        }
+
+        @Override
+        public Iterable<Map.Entry<Integer, String>> order(final List<Map.Entry<Integer, String>> insertionOrder) {
+            return insertionOrder;
+        }
+
+        @Override
+        public Integer[] createKeyArray(final int length) {
+            return new Integer[length];
+        }
+
+        @Override
+        public String[] createValueArray(final int length) {
+            return new String[length];
+        }
+    }
+}
@@ -59,6 +59,33 @@ public final class ArcMapTest {
         }
     }
 
+    @Test
+    void test_entry_set_value() {
+        final var map = new ArcMap<String, String>(new ObjectMap<>());
+        map.put("a", "1");
+        final var entry = map.entrySet().iterator().next();
+        Assertions.assertThat(entry.setValue("2")).isEqualTo("1");
+        Assertions.assertThat(entry.getValue()).isEqualTo("2");
+        Assertions.assertThat(map).containsExactly(Map.entry("a", "2"));
+    }
+
+    @Test
+    void test_entry_set_value_after_remove() {
+        final var map = new ArcMap<String, String>(new ObjectMap<>());
+        map.put("a", "1");
+        map.put("b", "2");
+
+        final var iterator = map.entrySet().iterator();
+        final var removed = iterator.next();
+        iterator.remove();
+        Assertions.assertThatThrownBy(() -> removed.setValue("3")).isInstanceOf(IllegalStateException.class);
+
+        final var other = map.entrySet().iterator().next();
+        map.remove(other.getKey());
+        Assertions.assertThatThrownBy(() -> other.setValue("3")).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(map).isEmpty();
+    }
+
     private static final class TestArcMapGenerator extends TestStringMapGenerator {
 
         @Override
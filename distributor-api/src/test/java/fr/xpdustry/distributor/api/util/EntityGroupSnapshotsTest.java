@@ -0,0 +1,93 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import arc.struct.Seq;
+import fr.xpdustry.distributor.api.TestPlayer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import mindustry.gen.Groups;
+import mindustry.gen.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class EntityGroupSnapshotsTest {
+
+    private EntityGroupSnapshots snapshots;
+    private Seq<Player> array;
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    void setup() {
+        Groups.init();
+        this.snapshots = new EntityGroupSnapshots();
+        this.array = new Seq<>();
+        this.player1 = new TestPlayer("phinner", "AAAAAAAAAAAAAAAAAAAAAA==", 1);
+        this.player2 = new TestPlayer("deez", "BAAAAAAAAAAAAAAAAAAAAA==", 2);
+        this.array.add(this.player1);
+    }
+
+    @Test
+    void test_read_before_first_tick() {
+        assertThat(this.snapshots.isGameThread()).isFalse();
+        assertThat(this.readAsync()).containsExactly(this.player1);
+        assertThat(this.read()).containsExactly(this.player1);
+
+        // No tick publishes the copies yet, so every read takes a new one
+        this.array.add(this.player2);
+        assertThat(this.readAsync()).containsExactly(this.player1, this.player2);
+        assertThat(this.read()).containsExactly(this.player1, this.player2);
+    }
+
+    @Test
+    void test_publish() {
+        this.snapshots.publish();
+        assertThat(this.snapshots.isGameThread()).isTrue();
+        assertThat(this.readAsync()).containsExactly(this.player1);
+
+        // The other threads see the changes of the game thread at the next tick
+        this.array.add(this.player2);
+        assertThat(this.read()).containsExactly(this.player1, this.player2);
+        assertThat(this.readAsync()).containsExactly(this.player1);
+
+        this.snapshots.publish();
+        assertThat(this.readAsync()).containsExactly(this.player1, this.player2);
+    }
+
+    @Test
+    void test_snapshot_is_immutable_copy() {
+        this.snapshots.publish();
+        final var snapshot = this.readAsync();
+        this.array.clear();
+        this.snapshots.publish();
+        assertThat(snapshot).containsExactly(this.player1);
+        assertThat(this.readAsync()).isEmpty();
+    }
+
+    private List<Player> read() {
+        return this.snapshots.get(Groups.player, this.array).elements();
+    }
+
+    private List<Player> readAsync() {
+        return CompletableFuture.supplyAsync(this::read).join();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import fr.xpdustry.distributor.api.TestPlayer;
+import java.util.concurrent.ForkJoinPool;
+import mindustry.game.Team;
+import mindustry.gen.Groups;
+import mindustry.gen.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class EntityQueryTest {
+
+    private Player player1;
+    private Player player2;
+    private Player player3;
+
+    @BeforeEach
+    void createPlayers() {
+        Groups.init();
+
+        this.player1 = this.createPlayer("phinner", "AAAAAAAAAAAAAAAAAAAAAA==", 1, 0F, 0F, Team.sharded);
+        this.player2 = this.createPlayer("deez", "BAAAAAAAAAAAAAAAAAAAAA==", 2, 40F, 30F, Team.crux);
+        this.player3 = this.createPlayer("zeta", "CAAAAAAAAAAAAAAAAAAAAA==", 3, 1000F, 1000F, Team.sharded);
+    }
+
+    @AfterEach
+    void clearGroups() {
+        Groups.clear();
+    }
+
+    @Test
+    void test_list_all() {
+        assertThat(EntityQuery.of(Groups.player).list()).containsExactly(this.player1, this.player2, this.player3);
+    }
+
+    @Test
+    void test_within() {
+        assertThat(EntityQuery.of(Groups.player).within(0F, 0F, 50F).list())
+                .containsExactly(this.player1, this.player2);
+        assertThat(EntityQuery.of(Groups.player).within(0F, 0F, 49F).count()).isEqualTo(1);
+    }
+
+    @Test
+    void test_team_and_filter() {
+        final var query = EntityQuery.of(Groups.player).team(Team.sharded);
+        assertThat(query.list()).containsExactly(this.player1, this.player3);
+        assertThat(query.filter(player -> player.name().startsWith("z")).list()).containsExactly(this.player3);
+    }
+
+    @Test
+    void test_list_async() {
+        final var result = EntityQuery.of(Groups.player)
+                .within(1000F, 1000F, 10F)
+                .listAsync(ForkJoinPool.commonPool())
+                .join();
+        assertThat(result).containsExactly(this.player3);
+    }
+
+    private Player createPlayer(
+            final String name, final String uuid, final int id, final float x, final float y, final Team team) {
+        final var player = new TestPlayer(name, uuid, id);
+        player.set(x, y);
+        player.team(team);
+        Groups.player.add(player);
+        return player;
+    }
+}
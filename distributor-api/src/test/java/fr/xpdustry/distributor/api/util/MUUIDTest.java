@@ -0,0 +1,84 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import java.util.Base64;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class MUUIDTest {
+
+    @Test
+    void test_decode_and_encode() {
+        final var random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            final var uuid = new byte[16];
+            final var usid = new byte[8];
+            random.nextBytes(uuid);
+            random.nextBytes(usid);
+
+            final var muuid = MUUID.of(
+                    Base64.getEncoder().encodeToString(uuid),
+                    Base64.getEncoder().encodeToString(usid));
+            assertThat(muuid.getDecodedUuid()).isEqualTo(uuid);
+            assertThat(MUUID.decodeUuid(muuid.getUuid())).isEqualTo(uuid);
+            assertThat(muuid.getDecodedUsid()).isEqualTo(usid);
+
+            final var copy = MUUID.of(
+                    muuid.getUuidMostSignificantBits(), muuid.getUuidLeastSignificantBits(), muuid.getUsidBits());
+            assertThat(copy).isEqualTo(muuid).hasSameHashCodeAs(muuid);
+            assertThat(copy.getUuid()).isEqualTo(muuid.getUuid());
+            assertThat(copy.getUsid()).isEqualTo(muuid.getUsid());
+        }
+    }
+
+    @Test
+    void test_canonical_strings() {
+        final var muuid = MUUID.of("AAAAAAAAAAAAAAAAAAAAAB", "AAAAAAAAAAB");
+        assertThat(muuid.getUuid()).isEqualTo("AAAAAAAAAAAAAAAAAAAAAA==");
+        assertThat(muuid.getUsid()).isEqualTo("AAAAAAAAAAA=");
+        assertThat(muuid).isEqualTo(MUUID.of("AAAAAAAAAAAAAAAAAAAAAA==", "AAAAAAAAAAA="));
+    }
+
+    @Test
+    void test_is_uuid() {
+        assertThat(MUUID.isUuid("AAAAAAAAAAAAAAAAAAAAAA==")).isTrue();
+        assertThat(MUUID.isUuid("AAAAAAAAAAAAAAAAAAAAAA")).isTrue();
+        assertThat(MUUID.isUuid("AAAAAAAAAAAAAAAAAAAAAA=")).isFalse();
+        assertThat(MUUID.isUuid("AAAAAAAAAAAAAAAAAAAAAAAA")).isFalse();
+        assertThat(MUUID.isUuid("AAAAAAAAAAAAAAAAAAAA-A==")).isFalse();
+        assertThat(MUUID.isUuid("AAAAAAAAAAA=")).isFalse();
+    }
+
+    @Test
+    void test_is_usid() {
+        assertThat(MUUID.isUsid("AAAAAAAAAAA=")).isTrue();
+        assertThat(MUUID.isUsid("AAAAAAAAAAA")).isTrue();
+        assertThat(MUUID.isUsid("AAAAAAAAAAA==")).isFalse();
+        assertThat(MUUID.isUsid("AAAAAAAAAAAAAAAAAAAAAA==")).isFalse();
+    }
+
+    @Test
+    void test_invalid() {
+        assertThatThrownBy(() -> MUUID.of("AAAAAAAAAAA=", "AAAAAAAAAAA=")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class NameIndexTest {
+
+    @Test
+    void test_find_by_substring() {
+        final var index = new NameIndex<String>();
+        index.put("a", "phinner");
+        index.put("b", "deez nuts");
+        index.put("c", "deez");
+        assertThat(index.find("inn")).containsExactly("a");
+        assertThat(index.find("ee")).containsExactlyInAnyOrder("b", "c");
+        assertThat(index.find("xyz")).isEmpty();
+    }
+
+    @Test
+    void test_find_single_exact_match() {
+        final var index = new NameIndex<String>();
+        index.put("b", "deez nuts");
+        index.put("c", "deez");
+        assertThat(index.find("deez")).containsExactly("c");
+        index.put("d", "deez");
+        assertThat(index.find("deez")).containsExactlyInAnyOrder("b", "c", "d");
+    }
+
+    @Test
+    void test_find_with_limit() {
+        final var index = new NameIndex<String>();
+        index.put("a", "deez");
+        index.put("b", "deez nuts");
+        index.put("c", "deez bolts");
+        assertThat(index.find("dee", 2)).hasSize(2);
+        assertThat(index.find("deez", 1)).containsExactly("a");
+        assertThat(index.find("dee", 0)).isEmpty();
+    }
+
+    @Test
+    void test_put_replaces_name() {
+        final var index = new NameIndex<String>();
+        index.put("a", "phinner");
+        index.put("a", "zeta");
+        assertThat(index.find("phi")).isEmpty();
+        assertThat(index.find("zeta")).containsExactly("a");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void test_remove() {
+        final var index = new NameIndex<String>();
+        index.put("a", "phinner");
+        index.remove("a");
+        assertThat(index.find("phinner")).isEmpty();
+        assertThat(index.find("p")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
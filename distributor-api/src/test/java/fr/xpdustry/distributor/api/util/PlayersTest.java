@@ -51,11 +51,14 @@ public final class PlayersTest {
         Groups.player.add(this.player3);
         Groups.player.add(this.player4);
         Groups.player.add(this.player5);
+
+        Players.getIndexListener().onPluginInit();
     }
 
     @AfterEach
     void clearGroups() {
         Groups.clear();
+        Players.INDEX.clear();
     }
 
     @Test
@@ -101,6 +104,23 @@ public final class PlayersTest {
                 .isEqualTo(this.player3);
     }
 
+    @Test
+    void test_find_by_name_after_rename() {
+        assertThat(Players.findPlayers("phinner")).singleElement().isEqualTo(this.player3);
+        this.player3.name("[red]deez");
+        assertThat(Players.findPlayers("phinner")).isEmpty();
+        assertThat(Players.findPlayers("deez")).containsExactlyInAnyOrder(this.player1, this.player2, this.player3);
+    }
+
+    @Test
+    void test_find_after_leave() {
+        assertThat(Players.findPlayers("#2")).singleElement().isEqualTo(this.player2);
+        Players.INDEX.remove(this.player2);
+        Groups.player.remove(this.player2);
+        assertThat(Players.findPlayers("#2")).isEmpty();
+        assertThat(Players.findPlayers("de")).singleElement().isEqualTo(this.player1);
+    }
+
     @Test
     void test_get_locale() {
         this.player1.locale(Locale.FRANCE.toLanguageTag());
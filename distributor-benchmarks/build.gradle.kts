@@ -0,0 +1,39 @@
+plugins {
+    id("distributor.base-conventions")
+    id("distributor.mindustry-conventions")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmhImplementation(project(":distributor-core"))
+    jmhImplementation(testFixtures(project(":distributor-core")))
+    jmhImplementation("org.xerial:sqlite-jdbc:3.43.0.0")
+}
+
+// The game classes are provided at runtime by the server, but the benchmarks run outside of it
+configurations.jmhImplementation {
+    extendsFrom(configurations.compileOnly.get())
+}
+
+// Fixed settings and a JSON report, so the results of different commits can be compared,
+// for example with https://jmh.morethan.io
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    warmup.set("1s")
+    iterations.set(5)
+    timeOnIteration.set("1s")
+    benchmarkMode.set(listOf("avgt"))
+    timeUnit.set("ns")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // Run a subset of the benchmarks with -Pbenchmarks=PermissionTree,EventBus
+    val filter = findProperty("benchmarks") as String?
+    if (filter != null) {
+        includes.set(filter.split(','))
+    }
+}
+
+tasks.shadowJar {
+    enabled = false
+}
@@ -0,0 +1,75 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.benchmarks;
+
+import arc.util.Log;
+import fr.xpdustry.distributor.core.logging.ArcLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+
+@State(Scope.Benchmark)
+public class ArcLoggerBenchmark {
+
+    private Logger logger;
+    private Logger pluginLogger;
+    private Log.LogHandler previous;
+    private String last = "";
+
+    @Setup
+    public void setup() {
+        this.logger = new ArcLogger("Benchmark", null);
+        this.pluginLogger = new ArcLogger("Benchmark", "benchmark-plugin");
+        // Only measure the formatting, not the console
+        this.previous = Log.logger;
+        Log.logger = (level, text) -> this.last = text;
+    }
+
+    @TearDown
+    public void tearDown() {
+        Log.logger = this.previous;
+    }
+
+    @Benchmark
+    public String plain() {
+        this.logger.info("A plain message without arguments.");
+        return this.last;
+    }
+
+    @Benchmark
+    public String arguments() {
+        this.logger.info("Player {} joined with {} items.", "phinner", 42);
+        return this.last;
+    }
+
+    @Benchmark
+    public String plugin() {
+        this.pluginLogger.info("Player {} joined with {} items.", "phinner", 42);
+        return this.last;
+    }
+
+    @Benchmark
+    public String disabled() {
+        this.logger.trace("Player {} joined with {} items.", "phinner", 42);
+        return this.last;
+    }
+}
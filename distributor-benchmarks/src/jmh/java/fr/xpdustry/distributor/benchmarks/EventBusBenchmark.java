@@ -0,0 +1,62 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.benchmarks;
+
+import arc.Events;
+import fr.xpdustry.distributor.core.event.SimpleEventBus;
+import fr.xpdustry.distributor.core.scheduler.SimulatedPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class EventBusBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int subscribers;
+
+    private SimpleEventBus bus;
+    private final BenchmarkEvent event = new BenchmarkEvent();
+    private long received = 0;
+
+    @Setup
+    public void setup() {
+        this.bus = new SimpleEventBus();
+        final var plugin = new SimulatedPlugin("benchmark");
+        for (int i = 0; i < this.subscribers; i++) {
+            this.bus.subscribe(BenchmarkEvent.class, plugin, event -> this.received++);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Events.clear();
+    }
+
+    @Benchmark
+    public long post() {
+        this.bus.post(this.event);
+        return this.received;
+    }
+
+    public static final class BenchmarkEvent {}
+}
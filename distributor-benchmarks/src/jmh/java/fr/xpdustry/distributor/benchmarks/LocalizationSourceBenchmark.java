@@ -0,0 +1,71 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.benchmarks;
+
+import fr.xpdustry.distributor.api.localization.LocalizationSourceRegistry;
+import java.text.MessageFormat;
+import java.util.Locale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class LocalizationSourceBenchmark {
+
+    private static final Locale CANADIAN_FRENCH = Locale.forLanguageTag("fr-CA");
+
+    @Param({"100", "10000"})
+    private int keys;
+
+    private LocalizationSourceRegistry registry;
+    private String key;
+
+    @Setup
+    public void setup() {
+        this.registry = LocalizationSourceRegistry.create(Locale.ENGLISH);
+        for (int i = 0; i < this.keys; i++) {
+            final var key = "benchmark.key." + i;
+            this.registry.register(key, Locale.ENGLISH, new MessageFormat("Hello {0}, {1} points", Locale.ENGLISH));
+            this.registry.register(key, Locale.FRENCH, new MessageFormat("Bonjour {0}, {1} points", Locale.FRENCH));
+        }
+        this.key = "benchmark.key." + (this.keys / 2);
+    }
+
+    @Benchmark
+    public String exact() {
+        return this.registry.format(this.key, Locale.FRENCH, "player", 42);
+    }
+
+    @Benchmark
+    public String language() {
+        return this.registry.format(this.key, CANADIAN_FRENCH, "player", 42);
+    }
+
+    @Benchmark
+    public String fallback() {
+        return this.registry.format(this.key, Locale.GERMAN, "player", 42);
+    }
+
+    @Benchmark
+    public String missing() {
+        return this.registry.format("benchmark.missing", Locale.FRENCH, "player", 42);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.benchmarks;
+
+import fr.xpdustry.distributor.api.util.Players;
+import java.util.List;
+import mindustry.gen.Groups;
+import mindustry.gen.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// Measures the name index through the online player lookups, the offline ones can't run outside a server
+@State(Scope.Benchmark)
+public class NameIndexBenchmark {
+
+    @Param({"1000", "50000"})
+    private int names;
+
+    private String name;
+
+    @Setup
+    public void setup() {
+        Groups.init();
+        for (int i = 0; i < this.names; i++) {
+            Groups.player.add(new BenchmarkPlayer("[accent]player-" + i, i));
+        }
+        Players.getIndexListener().onPluginInit();
+        this.name = "player-" + (this.names - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Groups.clear();
+        Players.getIndexListener().onPluginInit();
+    }
+
+    @Benchmark
+    public List<Player> exact() {
+        return Players.findPlayers(this.name);
+    }
+
+    @Benchmark
+    public List<Player> substring() {
+        return Players.findPlayers("yer-12");
+    }
+
+    @Benchmark
+    public List<Player> missing() {
+        return Players.findPlayers("zzz");
+    }
+
+    private static final class BenchmarkPlayer extends Player {
+
+        private final String uuid;
+
+        private BenchmarkPlayer(final String name, final int id) {
+            this.name(name);
+            this.id(id);
+            this.uuid = String.format("%022d", id) + "==";
+        }
+
+        @Override
+        public String uuid() {
+            return this.uuid;
+        }
+    }
+}
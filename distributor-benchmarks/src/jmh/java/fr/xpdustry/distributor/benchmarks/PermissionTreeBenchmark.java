@@ -0,0 +1,66 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.benchmarks;
+
+import fr.xpdustry.distributor.api.util.Tristate;
+import fr.xpdustry.distributor.core.security.permission.PermissionTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class PermissionTreeBenchmark {
+
+    @Param({"10", "1000"})
+    private int permissions;
+
+    private PermissionTree tree;
+    private String exact;
+    private String wildcard;
+    private String missing;
+
+    @Setup
+    public void setup() {
+        this.tree = new PermissionTree();
+        for (int i = 0; i < this.permissions; i++) {
+            this.tree.setPermission("plugin" + (i % 10) + ".command" + i + ".use", Tristate.TRUE);
+        }
+        this.tree.setPermission("plugin0.admin.*", Tristate.TRUE);
+        this.exact = "plugin" + ((this.permissions - 1) % 10) + ".command" + (this.permissions - 1) + ".use";
+        this.wildcard = "plugin0.admin.ban.ip";
+        this.missing = "plugin1.command0.use";
+    }
+
+    @Benchmark
+    public Tristate exact() {
+        return this.tree.getPermission(this.exact);
+    }
+
+    @Benchmark
+    public Tristate wildcard() {
+        return this.tree.getPermission(this.wildcard);
+    }
+
+    @Benchmark
+    public Tristate missing() {
+        return this.tree.getPermission(this.missing);
+    }
+}
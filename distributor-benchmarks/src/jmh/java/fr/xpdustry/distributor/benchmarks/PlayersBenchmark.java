@@ -0,0 +1,100 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.benchmarks;
+
+import fr.xpdustry.distributor.api.util.Players;
+import java.util.List;
+import mindustry.gen.Groups;
+import mindustry.gen.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class PlayersBenchmark {
+
+    @Param({"10", "100"})
+    private int players;
+
+    private String name;
+    private String id;
+    private String uuid;
+
+    @Setup
+    public void setup() {
+        Groups.init();
+        for (int i = 0; i < this.players; i++) {
+            Groups.player.add(new BenchmarkPlayer("[accent]player-" + i, createUuid(i), i));
+        }
+        Players.getIndexListener().onPluginInit();
+        final var last = this.players - 1;
+        this.name = "player-" + last;
+        this.id = "#" + last;
+        this.uuid = createUuid(last);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Groups.clear();
+        Players.getIndexListener().onPluginInit();
+    }
+
+    @Benchmark
+    public List<Player> name() {
+        return Players.findPlayers(this.name);
+    }
+
+    @Benchmark
+    public List<Player> partial() {
+        return Players.findPlayers("play");
+    }
+
+    @Benchmark
+    public List<Player> id() {
+        return Players.findPlayers(this.id);
+    }
+
+    @Benchmark
+    public List<Player> uuid() {
+        return Players.findPlayers(this.uuid, true);
+    }
+
+    private static String createUuid(final int index) {
+        return String.format("%022d", index).substring(0, 22) + "==";
+    }
+
+    private static final class BenchmarkPlayer extends Player {
+
+        private final String uuid;
+
+        private BenchmarkPlayer(final String name, final String uuid, final int id) {
+            this.name(name);
+            this.id(id);
+            this.uuid = uuid;
+        }
+
+        @Override
+        public String uuid() {
+            return this.uuid;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.benchmarks;
+
+import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
+import fr.xpdustry.distributor.core.scheduler.DeterministicExecutor;
+import fr.xpdustry.distributor.core.scheduler.SimplePluginScheduler;
+import fr.xpdustry.distributor.core.scheduler.SimulatedPlugin;
+import fr.xpdustry.distributor.core.scheduler.VirtualTimeSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class PluginSchedulerBenchmark {
+
+    private static final int REPEATING_TASKS = 100;
+
+    @Param({"1000", "100000"})
+    private int pendingTasks;
+
+    private VirtualTimeSource time;
+    private DeterministicExecutor executor;
+    private SimplePluginScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        this.time = new VirtualTimeSource();
+        this.executor = new DeterministicExecutor();
+        this.scheduler = new SimplePluginScheduler(this.time, this.time, this.executor, this.executor);
+        final var plugin = new SimulatedPlugin("benchmark");
+        // Tasks far enough in the future to stay in the queue for the whole benchmark
+        for (int i = 0; i < this.pendingTasks; i++) {
+            this.scheduler
+                    .scheduleSync(plugin)
+                    .delay(Integer.MAX_VALUE - i, MindustryTimeUnit.TICKS)
+                    .execute(() -> {});
+        }
+        for (int i = 0; i < REPEATING_TASKS; i++) {
+            final var builder = i % 2 == 0 ? this.scheduler.scheduleSync(plugin) : this.scheduler.scheduleAsync(plugin);
+            builder.repeat(1 + (i % 10), MindustryTimeUnit.TICKS).execute(() -> {});
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.scheduler.onPluginExit();
+    }
+
+    @Benchmark
+    public int update() {
+        this.time.advance(1L);
+        this.scheduler.onPluginUpdate();
+        return this.executor.runAll();
+    }
+}
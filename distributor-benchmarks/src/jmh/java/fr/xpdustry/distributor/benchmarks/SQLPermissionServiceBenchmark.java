@@ -0,0 +1,98 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.benchmarks;
+
+import fr.xpdustry.distributor.api.util.Tristate;
+import fr.xpdustry.distributor.core.DistributorConfiguration;
+import fr.xpdustry.distributor.core.database.SQLiteConnectionFactory;
+import fr.xpdustry.distributor.core.security.SQLPlayerValidator;
+import fr.xpdustry.distributor.core.security.permission.SQLPermissionService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.aeonbits.owner.ConfigFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class SQLPermissionServiceBenchmark {
+
+    private static final String PLAYER = "AAAAAAAAAAAAAAAAAAAAAA==";
+    private static final String UNKNOWN_PLAYER = "BAAAAAAAAAAAAAAAAAAAAA==";
+
+    private Path directory;
+    private SQLiteConnectionFactory factory;
+    private SQLPermissionService service;
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("distributor-benchmarks");
+        this.factory = new SQLiteConnectionFactory(
+                "bench_", this.directory.resolve("permissions.db"), this.getClass().getClassLoader());
+        this.factory.start();
+
+        final var config = ConfigFactory.create(DistributorConfiguration.class);
+        this.service = new SQLPermissionService(config, this.factory, new SQLPlayerValidator(this.factory));
+
+        final var groups = this.service.getGroupPermissionManager();
+        final var parent = groups.findOrCreateById("moderator");
+        parent.setPermission("server.kick", Tristate.TRUE);
+        groups.save(parent);
+        final var primary = groups.findOrCreateById(config.getPermissionPrimaryGroup());
+        primary.setPermission("server.chat", Tristate.TRUE);
+        groups.save(primary);
+
+        final var players = this.service.getPlayerPermissionManager();
+        final var player = players.findOrCreateById(PLAYER);
+        player.setPermission("server.ban", Tristate.TRUE);
+        player.addParentGroup("moderator");
+        players.save(player);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException, IOException {
+        this.factory.close();
+        try (final Stream<Path> files = Files.walk(this.directory)) {
+            for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Tristate player() {
+        return this.service.getPlayerPermission(PLAYER, "server.ban");
+    }
+
+    @Benchmark
+    public Tristate parent() {
+        return this.service.getPlayerPermission(PLAYER, "server.kick");
+    }
+
+    @Benchmark
+    public Tristate primary() {
+        return this.service.getPlayerPermission(UNKNOWN_PLAYER, "server.chat");
+    }
+}
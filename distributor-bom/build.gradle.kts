@@ -12,7 +12,7 @@ indra {
 dependencies {
     constraints {
         for (subproject in rootProject.subprojects) {
-            if (subproject == project) {
+            if (subproject == project || subproject.name == "distributor-benchmarks") {
                 continue
             }
 
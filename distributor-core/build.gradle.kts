@@ -2,6 +2,7 @@ plugins {
     id("distributor.base-conventions")
     id("distributor.publishing-conventions")
     id("distributor.mindustry-conventions")
+    `java-test-fixtures`
 }
 
 dependencies {
@@ -14,6 +15,11 @@ dependencies {
     testImplementation("org.xerial:sqlite-jdbc:3.43.0.0")
 }
 
+// The fixtures need the game classes, provided at runtime by the server
+configurations.testFixturesCompileOnly {
+    extendsFrom(configurations.compileOnly.get())
+}
+
 val metadata = fr.xpdustry.toxopid.spec.ModMetadata.fromJson(rootProject.file("plugin.json"))
 metadata.version = rootProject.version.toString()
 metadata.description = rootProject.description.toString()
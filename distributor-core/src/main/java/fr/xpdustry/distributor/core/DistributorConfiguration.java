@@ -18,6 +18,7 @@
  */
 package fr.xpdustry.distributor.core;
 
+import fr.xpdustry.distributor.core.logging.AsyncLogAppender;
 import org.aeonbits.owner.Accessible;
 import org.aeonbits.owner.Config;
 
@@ -75,6 +76,34 @@ public interface DistributorConfiguration extends Accessible {
     @Config.DefaultValue("false")
     boolean isAdminIgnored();
 
+    @Config.Key("distributor.logging.async.enabled")
+    @Config.DefaultValue("false")
+    boolean isAsyncLoggingEnabled();
+
+    @Config.Key("distributor.logging.async.buffer-size")
+    @Config.DefaultValue("8192")
+    int getAsyncLoggingBufferSize();
+
+    @Config.Key("distributor.logging.async.overflow-policy")
+    @Config.DefaultValue("BLOCK")
+    AsyncLogAppender.OverflowPolicy getAsyncLoggingOverflowPolicy();
+
+    @Config.Key("distributor.logging.json.enabled")
+    @Config.DefaultValue("false")
+    boolean isJsonLoggingEnabled();
+
+    @Config.Key("distributor.logging.json.max-file-size")
+    @Config.DefaultValue("10485760")
+    long getJsonLoggingMaxFileSize();
+
+    @Config.Key("distributor.logging.json.max-archives")
+    @Config.DefaultValue("30")
+    int getJsonLoggingMaxArchives();
+
+    @Config.Key("distributor.logging.rate-limit")
+    @Config.DefaultValue("0")
+    int getLoggingRateLimit();
+
     enum DatabaseType {
         SQLITE,
         MYSQL
@@ -33,15 +33,22 @@ import fr.xpdustry.distributor.api.plugin.AbstractMindustryPlugin;
 import fr.xpdustry.distributor.api.scheduler.PluginScheduler;
 import fr.xpdustry.distributor.api.security.PlayerValidator;
 import fr.xpdustry.distributor.api.security.permission.PermissionService;
+import fr.xpdustry.distributor.api.util.ArcCollections;
+import fr.xpdustry.distributor.api.util.Players;
 import fr.xpdustry.distributor.core.commands.GroupPermissibleCommands;
+import fr.xpdustry.distributor.core.commands.LoggingCommands;
 import fr.xpdustry.distributor.core.commands.PlayerPermissibleCommands;
 import fr.xpdustry.distributor.core.commands.PlayerValidatorCommands;
+import fr.xpdustry.distributor.core.commands.SchedulerCommands;
 import fr.xpdustry.distributor.core.database.ConnectionFactory;
 import fr.xpdustry.distributor.core.database.MySQLConnectionFactory;
 import fr.xpdustry.distributor.core.database.SQLiteConnectionFactory;
 import fr.xpdustry.distributor.core.dependency.DependencyManager;
 import fr.xpdustry.distributor.core.event.SimpleEventBus;
+import fr.xpdustry.distributor.core.logging.ArcLogger;
 import fr.xpdustry.distributor.core.logging.ArcLoggerFactory;
+import fr.xpdustry.distributor.core.logging.AsyncLogAppender;
+import fr.xpdustry.distributor.core.logging.JsonLogSink;
 import fr.xpdustry.distributor.core.scheduler.SimplePluginScheduler;
 import fr.xpdustry.distributor.core.scheduler.TimeSource;
 import fr.xpdustry.distributor.core.security.PlayerValidatorListener;
@@ -52,12 +59,14 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Clock;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import org.aeonbits.owner.ConfigFactory;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.LoggerFactory;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 
@@ -92,6 +101,8 @@ public final class DistributorCorePlugin extends AbstractMindustryPlugin impleme
     private @MonotonicNonNull DistributorConfiguration configuration = null;
     private @MonotonicNonNull DependencyManager dependencyManager = null;
     private @MonotonicNonNull PlayerValidator playerValidator = null;
+    private @Nullable AsyncLogAppender logAppender = null;
+    private @Nullable JsonLogSink jsonLogSink = null;
 
     @SuppressWarnings({"MissingCasesInEnumSwitch", "resource"})
     @Override
@@ -134,11 +145,39 @@ public final class DistributorCorePlugin extends AbstractMindustryPlugin impleme
             }
         }
 
+        // Configure logging
+        ArcLogger.setRateLimit(this.configuration.getLoggingRateLimit());
+        if (LoggerFactory.getILoggerFactory() instanceof final ArcLoggerFactory factory) {
+            this.addListener(new LoggingCommands(this, factory));
+        }
+
+        // Write the logs from a dedicated thread
+        if (this.configuration.isAsyncLoggingEnabled()) {
+            this.logAppender = new AsyncLogAppender(
+                    this.configuration.getAsyncLoggingBufferSize(),
+                    this.configuration.getAsyncLoggingOverflowPolicy());
+            ArcLogger.setAsyncAppender(this.logAppender);
+        }
+        if (this.configuration.isJsonLoggingEnabled()) {
+            try {
+                this.jsonLogSink = new JsonLogSink(
+                        this.getDirectory().resolve("logs"),
+                        "distributor",
+                        this.configuration.getJsonLoggingMaxFileSize(),
+                        this.configuration.getJsonLoggingMaxArchives(),
+                        Clock.systemDefaultZone());
+                ArcLogger.setJsonSink(this.jsonLogSink);
+            } catch (final IOException e) {
+                this.getLogger().error("Failed to create the json log file.", e);
+            }
+        }
+
         // Start scheduler
         final var parallelism = this.configuration.getSchedulerWorkers() < 1
                 ? Math.max(4, Runtime.getRuntime().availableProcessors())
                 : this.configuration.getSchedulerWorkers();
         this.addListener(this.scheduler = new SimplePluginScheduler(TimeSource.arc(), Core.app::post, parallelism));
+        this.addListener(new SchedulerCommands(this, this.scheduler));
 
         // Create dependency manager
         this.dependencyManager = new DependencyManager(this.getDirectory().resolve("libs"));
@@ -175,6 +214,10 @@ public final class DistributorCorePlugin extends AbstractMindustryPlugin impleme
         this.source.addLocalizationSource(registry);
         this.source.addLocalizationSource(LocalizationSource.router());
 
+        // Keep the player lookups and the entity group snapshots up to date
+        this.addListener(Players.getIndexListener());
+        this.addListener(ArcCollections.getSnapshotListener());
+
         // Add listeners to validate players
         this.playerValidator = new SQLPlayerValidator(validatorConnectionFactory);
         this.addListener(new PlayerValidatorListener(this.playerValidator, this.configuration));
@@ -231,6 +274,18 @@ public final class DistributorCorePlugin extends AbstractMindustryPlugin impleme
                 this.getLogger().error("An error occurred while closing SQL connection '{}'", connection.getKey(), e);
             }
         }
+        if (this.logAppender != null) {
+            ArcLogger.setAsyncAppender(null);
+            this.logAppender.close();
+        }
+        if (this.jsonLogSink != null) {
+            ArcLogger.setJsonSink(null);
+            try {
+                this.jsonLogSink.close();
+            } catch (final IOException e) {
+                this.getLogger().error("An error occurred while closing the json log file.", e);
+            }
+        }
     }
 
     public ArcCommandManager<CommandSender> getServerCommandManager() {
@@ -0,0 +1,115 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.commands;
+
+import arc.util.CommandHandler;
+import cloud.commandframework.ArgumentDescription;
+import cloud.commandframework.arguments.standard.EnumArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.meta.CommandMeta;
+import fr.xpdustry.distributor.api.command.sender.CommandSender;
+import fr.xpdustry.distributor.api.plugin.PluginListener;
+import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
+import fr.xpdustry.distributor.api.scheduler.TaskHandler;
+import fr.xpdustry.distributor.core.DistributorCorePlugin;
+import fr.xpdustry.distributor.core.logging.ArcLogger;
+import fr.xpdustry.distributor.core.logging.ArcLoggerFactory;
+import java.util.Locale;
+import java.util.Map;
+import org.slf4j.event.Level;
+
+public final class LoggingCommands implements PluginListener {
+
+    private final DistributorCorePlugin distributor;
+    private final ArcLoggerFactory factory;
+
+    public LoggingCommands(final DistributorCorePlugin distributor, final ArcLoggerFactory factory) {
+        this.distributor = distributor;
+        this.factory = factory;
+    }
+
+    @Override
+    public void onPluginServerCommandsRegistration(final CommandHandler handler) {
+        final var manager = this.distributor.getServerCommandManager();
+        final var root = manager.commandBuilder("logging", ArgumentDescription.of("Logging commands."));
+
+        manager.command(root.literal("level")
+                .meta(CommandMeta.DESCRIPTION, "Set the level of a logger, a package or a plugin.")
+                .permission("distributor.logging.level")
+                .argument(StringArgument.of("target"))
+                .argument(EnumArgument.of(Level.class, "level"))
+                .handler(ctx -> {
+                    final var target = ctx.<String>get("target");
+                    final var level = ctx.<Level>get("level");
+                    this.factory.setLevel(target, level);
+                    ctx.getSender()
+                            .sendLocalizedMessage(
+                                    "distributor.logging.level.set", target, level.name().toLowerCase(Locale.ROOT));
+                }));
+
+        manager.command(root.literal("reset")
+                .meta(CommandMeta.DESCRIPTION, "Reset the level of a logger, a package or a plugin.")
+                .permission("distributor.logging.level")
+                .argument(StringArgument.of("target"))
+                .handler(ctx -> {
+                    final var target = ctx.<String>get("target");
+                    this.factory.setLevel(target, null);
+                    ctx.getSender().sendLocalizedMessage("distributor.logging.level.reset", target);
+                }));
+
+        manager.command(root.literal("levels")
+                .meta(CommandMeta.DESCRIPTION, "List the levels of the loggers.")
+                .permission("distributor.logging.level")
+                .handler(ctx -> this.displayLevels(ctx.getSender())));
+
+        manager.command(root.literal("rate-limit")
+                .meta(CommandMeta.DESCRIPTION, "Set the maximum number of similar messages a logger logs per second.")
+                .permission("distributor.logging.rate-limit")
+                .argument(IntegerArgument.<CommandSender>builder("limit").withMin(0))
+                .handler(ctx -> {
+                    final var limit = ctx.<Integer>get("limit");
+                    ArcLogger.setRateLimit(limit);
+                    ctx.getSender().sendLocalizedMessage("distributor.logging.rate-limit", limit);
+                }));
+    }
+
+    @TaskHandler(interval = 1L, unit = MindustryTimeUnit.SECONDS, async = true)
+    public void onSuppressedMessagesFlush() {
+        this.factory.flushSuppressedMessages();
+    }
+
+    private void displayLevels(final CommandSender sender) {
+        final var levels = this.factory.getLevels();
+        if (levels.isEmpty()) {
+            sender.sendLocalizedMessage("distributor.logging.levels.none");
+            return;
+        }
+
+        final var builder = new StringBuilder();
+        levels.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> builder.append("\n- ")
+                        .append(entry.getKey())
+                        .append(": ")
+                        .append(entry.getValue().name().toLowerCase(Locale.ROOT)));
+
+        sender.sendLocalizedMessage("distributor.logging.levels.list", builder.toString());
+    }
+}
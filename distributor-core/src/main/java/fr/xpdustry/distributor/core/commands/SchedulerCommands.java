@@ -0,0 +1,115 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.commands;
+
+import arc.util.CommandHandler;
+import cloud.commandframework.ArgumentDescription;
+import cloud.commandframework.meta.CommandMeta;
+import fr.xpdustry.distributor.api.command.sender.CommandSender;
+import fr.xpdustry.distributor.api.localization.LocalizationSource;
+import fr.xpdustry.distributor.api.plugin.PluginListener;
+import fr.xpdustry.distributor.core.DistributorCorePlugin;
+import fr.xpdustry.distributor.core.scheduler.Histogram;
+import fr.xpdustry.distributor.core.scheduler.SchedulerMetrics;
+import fr.xpdustry.distributor.core.scheduler.SimplePluginScheduler;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+
+public final class SchedulerCommands implements PluginListener {
+
+    private final DistributorCorePlugin distributor;
+    private final SimplePluginScheduler scheduler;
+
+    public SchedulerCommands(final DistributorCorePlugin distributor, final SimplePluginScheduler scheduler) {
+        this.distributor = distributor;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void onPluginServerCommandsRegistration(final CommandHandler handler) {
+        final var manager = this.distributor.getServerCommandManager();
+        final var root = manager.commandBuilder("scheduler", ArgumentDescription.of("Plugin scheduler commands."));
+
+        manager.command(root.literal("stats")
+                .meta(CommandMeta.DESCRIPTION, "Display the statistics of the plugin scheduler.")
+                .permission("distributor.scheduler.stats")
+                .handler(ctx -> this.displayStatistics(ctx.getSender())));
+    }
+
+    private void displayStatistics(final CommandSender sender) {
+        final var snapshot = this.scheduler.getMetrics().snapshot();
+        if (snapshot.tasks().isEmpty()) {
+            sender.sendLocalizedMessage("distributor.scheduler.stats.none");
+            return;
+        }
+
+        final var source = this.distributor.getGlobalLocalizationSource();
+        final var locale = sender.getLocale();
+        final var builder = new StringBuilder(source.format(
+                "distributor.scheduler.stats.queue",
+                locale,
+                snapshot.currentQueueDepth(),
+                String.format(Locale.ROOT, "%.2f", snapshot.queueDepth().mean()),
+                snapshot.queueDepth().max()));
+
+        snapshot.tasks().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(SchedulerMetrics.TaskKey::plugin)
+                        .thenComparing(SchedulerMetrics.TaskKey::type)))
+                .forEach(entry -> {
+                    final var statistics = entry.getValue();
+                    builder.append("\n- ")
+                            .append(source.format(
+                                    "distributor.scheduler.stats.task",
+                                    locale,
+                                    entry.getKey().plugin(),
+                                    entry.getKey().type().name().toLowerCase(Locale.ROOT),
+                                    statistics.execution().count(),
+                                    statistics.failures(),
+                                    statistics.periodicTasks()))
+                            .append("\n  ")
+                            .append(this.formatHistogram(
+                                    source, locale, "distributor.scheduler.stats.lag", statistics.lag(), 1L))
+                            .append("\n  ")
+                            .append(this.formatHistogram(
+                                    source,
+                                    locale,
+                                    "distributor.scheduler.stats.execution",
+                                    statistics.execution(),
+                                    1_000_000L));
+                });
+
+        sender.sendMessage(builder.toString());
+    }
+
+    private String formatHistogram(
+            final LocalizationSource source,
+            final Locale locale,
+            final String key,
+            final Histogram.Snapshot histogram,
+            final long scale) {
+        return source.format(
+                key,
+                locale,
+                String.format(Locale.ROOT, "%.2f", histogram.mean() / scale),
+                String.format(Locale.ROOT, "%.2f", (double) histogram.percentile(0.5D) / scale),
+                String.format(Locale.ROOT, "%.2f", (double) histogram.percentile(0.99D) / scale),
+                String.format(Locale.ROOT, "%.2f", (double) histogram.max() / scale));
+    }
+}
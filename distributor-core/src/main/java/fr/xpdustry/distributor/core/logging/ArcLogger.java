@@ -23,6 +23,9 @@ import arc.util.Log;
 import arc.util.Log.LogLevel;
 import java.io.Serial;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import mindustry.net.Administration;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Marker;
@@ -39,61 +42,136 @@ public final class ArcLogger extends AbstractLogger {
     private static final Administration.Config TRACE =
             new Administration.Config("trace", "Enable trace logging when debug is enabled.", false);
 
+    // The call sites mostly use constant patterns, bounded in case some don't
+    private static final int MAX_CACHED_PATTERNS = 1024;
+    private static final Map<String, String> PATTERNS = new ConcurrentHashMap<>();
+    private static final String SUPPRESSED_PATTERN = "Suppressed {} messages similar to \"{}\".";
+
+    private static volatile @Nullable AsyncLogAppender appender = null;
+    private static volatile @Nullable JsonLogSink sink = null;
+    private static volatile int rateLimit = 0;
+
     private final @Nullable String plugin;
+    // Indexed by level ordinal
+    private final String[] prefixes;
+    // Overrides the global level of Arc if set
+    private volatile @Nullable Level level = null;
+    private final Map<String, RateWindow> rates = new ConcurrentHashMap<>();
 
     public ArcLogger(final String name, final @Nullable String plugin) {
         this.name = name;
         this.plugin = plugin;
+        final var levels = Level.values();
+        this.prefixes = new String[levels.length];
+        for (final var level : levels) {
+            this.prefixes[level.ordinal()] = this.createPrefix(level);
+        }
+    }
+
+    /**
+     * Sets the appender writing the messages of every {@code ArcLogger}, or {@code null} to write them directly from
+     * the logging threads.
+     */
+    public static void setAsyncAppender(final @Nullable AsyncLogAppender appender) {
+        ArcLogger.appender = appender;
+    }
+
+    /**
+     * Sets the sink receiving the messages of every {@code ArcLogger} in addition to the console, or {@code null} to
+     * only log in the console.
+     */
+    public static void setJsonSink(final @Nullable JsonLogSink sink) {
+        ArcLogger.sink = sink;
+    }
+
+    /**
+     * Sets the maximum number of messages per second a logger can log with the same pattern, the others being
+     * suppressed and counted. {@code 0} disables the limit.
+     */
+    public static void setRateLimit(final int limit) {
+        ArcLogger.rateLimit = Math.max(0, limit);
+    }
+
+    static void write(final LogEntry entry) {
+        synchronized (WRITE_LOCK) {
+            if (Log.level.ordinal() <= entry.level().ordinal()) {
+                Log.log(entry.level(), entry.message());
+            } else if (Log.logger != null) {
+                // Enabled by a logger level lower than the global level of Arc, which would filter it
+                Log.logger.log(entry.level(), Log.format(entry.message()));
+            }
+            if (entry.throwable() != null) {
+                Log.err(entry.throwable());
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the plugin owning this logger, if any.
+     */
+    public @Nullable String getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Returns the level of this logger, or {@code null} if it follows the global level of Arc.
+     */
+    public @Nullable Level getLevel() {
+        return this.level;
+    }
+
+    void setLevel(final @Nullable Level level) {
+        this.level = level;
     }
 
     @Override
     public boolean isTraceEnabled() {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.debug) && TRACE.bool();
+        return this.isEnabled(Level.TRACE);
     }
 
     @Override
     public boolean isTraceEnabled(final Marker marker) {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.debug) && TRACE.bool();
+        return this.isEnabled(Level.TRACE);
     }
 
     @Override
     public boolean isDebugEnabled() {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.debug);
+        return this.isEnabled(Level.DEBUG);
     }
 
     @Override
     public boolean isDebugEnabled(final Marker marker) {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.debug);
+        return this.isEnabled(Level.DEBUG);
     }
 
     @Override
     public boolean isInfoEnabled() {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.info);
+        return this.isEnabled(Level.INFO);
     }
 
     @Override
     public boolean isInfoEnabled(final Marker marker) {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.info);
+        return this.isEnabled(Level.INFO);
     }
 
     @Override
     public boolean isWarnEnabled() {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.warn);
+        return this.isEnabled(Level.WARN);
     }
 
     @Override
     public boolean isWarnEnabled(final Marker marker) {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.warn);
+        return this.isEnabled(Level.WARN);
     }
 
     @Override
     public boolean isErrorEnabled() {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.err);
+        return this.isEnabled(Level.ERROR);
     }
 
     @Override
     public boolean isErrorEnabled(final Marker marker) {
-        return this.isArcLogLevelAtLeast(Log.LogLevel.err);
+        return this.isEnabled(Level.ERROR);
     }
 
     @Override
@@ -108,6 +186,108 @@ public final class ArcLogger extends AbstractLogger {
             final String messagePattern,
             @Nullable Object @Nullable [] arguments,
             @Nullable Throwable throwable) {
+        final var limit = ArcLogger.rateLimit;
+        if (limit != 0) {
+            final var suppressed = this.acquire(level, messagePattern, limit);
+            if (suppressed < 0) {
+                return;
+            } else if (suppressed > 0) {
+                this.logSuppressed(level, messagePattern, suppressed);
+            }
+        }
+        this.log(level, messagePattern, arguments, throwable);
+    }
+
+    /**
+     * Logs the number of messages suppressed by the rate limit in the windows that are over, for the patterns that
+     * weren't logged since.
+     */
+    void flushSuppressed() {
+        final var now = System.nanoTime();
+        for (final var entry : this.rates.entrySet()) {
+            final var window = entry.getValue();
+            final var suppressed = window.expire(now);
+            if (suppressed > 0) {
+                this.logSuppressed(window.getSuppressedLevel(), entry.getKey(), suppressed);
+            }
+        }
+    }
+
+    // The summaries aren't rate limited, so they are never lost
+    private void logSuppressed(final Level level, final String messagePattern, final int suppressed) {
+        this.log(level, SUPPRESSED_PATTERN, new Object[] {suppressed, messagePattern}, null);
+    }
+
+    private void log(
+            final Level level,
+            final String messagePattern,
+            @Nullable Object @Nullable [] arguments,
+            @Nullable Throwable throwable) {
+        if (throwable == null
+                && arguments != null
+                && arguments.length != 0
+                && arguments[arguments.length - 1] instanceof final Throwable last) {
+            throwable = last;
+            arguments = arguments.length == 1 ? null : Arrays.copyOf(arguments, arguments.length - 1);
+        }
+
+        final var sink = ArcLogger.sink;
+        if (sink != null) {
+            sink.append(level, this.name, this.plugin, messagePattern, arguments, throwable);
+        }
+
+        final var pattern = rewritePattern(messagePattern);
+        final var string = this.prefixes[level.ordinal()].concat(
+                arguments == null ? pattern : MessageFormatter.basicArrayFormat(pattern, arguments));
+
+        final var entry = throwable != null && (arguments == null || arguments.length == 0)
+                ? new LogEntry(Log.LogLevel.err, string, throwable)
+                : new LogEntry(this.getArcLogLevel(level), string, throwable);
+        final var appender = ArcLogger.appender;
+        if (appender == null || !appender.append(entry)) {
+            write(entry);
+        }
+    }
+
+    private boolean isEnabled(final Level level) {
+        final var threshold = this.level;
+        if (threshold != null) {
+            return level.toInt() >= threshold.toInt();
+        }
+        return switch (level) {
+            case TRACE -> this.isArcLogLevelAtLeast(Log.LogLevel.debug) && TRACE.bool();
+            case DEBUG -> this.isArcLogLevelAtLeast(Log.LogLevel.debug);
+            case INFO -> this.isArcLogLevelAtLeast(Log.LogLevel.info);
+            case WARN -> this.isArcLogLevelAtLeast(Log.LogLevel.warn);
+            case ERROR -> this.isArcLogLevelAtLeast(Log.LogLevel.err);
+        };
+    }
+
+    // Returns -1 if the message must be suppressed, otherwise the number of messages suppressed in the last window
+    private int acquire(final Level level, final String pattern, final int limit) {
+        var window = this.rates.get(pattern);
+        if (window == null) {
+            if (this.rates.size() >= MAX_CACHED_PATTERNS) {
+                return 0;
+            }
+            window = this.rates.computeIfAbsent(pattern, p -> new RateWindow());
+        }
+        return window.acquire(level, System.nanoTime(), limit);
+    }
+
+    private static String rewritePattern(final String pattern) {
+        final var cached = PATTERNS.get(pattern);
+        if (cached != null) {
+            return cached;
+        }
+        final var rewritten = pattern.replace("{}", "&fb&lb{}&fr");
+        if (PATTERNS.size() < MAX_CACHED_PATTERNS) {
+            PATTERNS.put(pattern, rewritten);
+        }
+        return rewritten;
+    }
+
+    private String createPrefix(final Level level) {
         final var builder = new StringBuilder();
 
         if (!this.name.equals(ROOT_LOGGER_NAME)) {
@@ -131,29 +311,7 @@ public final class ArcLogger extends AbstractLogger {
             builder.append(this.getColorCode(level));
         }
 
-        if (throwable == null
-                && arguments != null
-                && arguments.length != 0
-                && arguments[arguments.length - 1] instanceof final Throwable last) {
-            throwable = last;
-            arguments = arguments.length == 1 ? null : Arrays.copyOf(arguments, arguments.length - 1);
-        }
-
-        final var string = builder.append(
-                        MessageFormatter.basicArrayFormat(messagePattern.replace("{}", "&fb&lb{}&fr"), arguments))
-                .toString();
-
-        synchronized (WRITE_LOCK) {
-            if (throwable != null && (arguments == null || arguments.length == 0)) {
-                Log.err(string);
-                Log.err(throwable);
-            } else {
-                Log.log(this.getArcLogLevel(level), string);
-                if (throwable != null) {
-                    Log.err(throwable);
-                }
-            }
-        }
+        return builder.toString();
     }
 
     private boolean isArcLogLevelAtLeast(final Log.LogLevel level) {
@@ -177,4 +335,47 @@ public final class ArcLogger extends AbstractLogger {
             case ERROR -> ColorCodes.lightRed + ColorCodes.bold;
         };
     }
+
+    private static final class RateWindow {
+
+        private static final long DURATION = TimeUnit.SECONDS.toNanos(1L);
+
+        private long start = System.nanoTime();
+        private int count = 0;
+        private int suppressed = 0;
+        private Level suppressedLevel = Level.INFO;
+
+        private synchronized int acquire(final Level level, final long now, final int limit) {
+            if (now - this.start >= DURATION) {
+                final var previous = this.suppressed;
+                this.start = now;
+                this.count = 1;
+                this.suppressed = 0;
+                return previous;
+            }
+            if (this.count < limit) {
+                this.count++;
+                return 0;
+            }
+            this.suppressed++;
+            this.suppressedLevel = level;
+            return -1;
+        }
+
+        // Returns the number of messages suppressed in the window if it is over, and resets it
+        private synchronized int expire(final long now) {
+            if (this.suppressed == 0 || now - this.start < DURATION) {
+                return 0;
+            }
+            final var previous = this.suppressed;
+            this.start = now;
+            this.count = 0;
+            this.suppressed = 0;
+            return previous;
+        }
+
+        private synchronized Level getSuppressedLevel() {
+            return this.suppressedLevel;
+        }
+    }
 }
@@ -20,95 +20,181 @@ package fr.xpdustry.distributor.core.logging;
 
 import fr.xpdustry.distributor.api.plugin.PluginDescriptor;
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import mindustry.mod.ModClassLoader;
 import mindustry.mod.Plugin;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
+import org.slf4j.event.Level;
 
 public final class ArcLoggerFactory implements ILoggerFactory {
 
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    // The display name of the plugin owning a class loader, weak since plugins can be reloaded
+    private static final Map<ClassLoader, Optional<String>> LOADER_PLUGINS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // The display name of the plugin owning a class
+    private static final ClassValue<Optional<String>> CLASS_PLUGINS = new ClassValue<>() {
+        @Override
+        protected Optional<String> computeValue(final Class<?> type) {
+            if (Plugin.class.isAssignableFrom(type)) {
+                return type.getClassLoader() == null ? Optional.empty() : getPlugin(type.getClassLoader());
+            }
+            ClassLoader classLoader = type.getClassLoader();
+            while (classLoader != null) {
+                if (classLoader.getParent() instanceof ModClassLoader) {
+                    return getPlugin(classLoader);
+                }
+                classLoader = classLoader.getParent();
+            }
+            return Optional.empty();
+        }
+    };
+
     private final Map<String, ArcLogger> loggers = new ConcurrentHashMap<>();
+    // The loggers whose name isn't a class, by the plugin of the class that created them and their name
+    private final Map<String, ArcLogger> attributed = new ConcurrentHashMap<>();
+    // The levels set by logger name, package or plugin name
+    private final Map<String, Level> levels = new ConcurrentHashMap<>();
 
     {
-        this.loggers.put(Logger.ROOT_LOGGER_NAME, new ArcLogger(Logger.ROOT_LOGGER_NAME, null));
+        this.loggers.put(Logger.ROOT_LOGGER_NAME, this.createLogger(Logger.ROOT_LOGGER_NAME, null));
     }
 
     @Override
     public Logger getLogger(final String name) {
-        if (this.loggers.containsKey(name)) {
-            return this.loggers.get(name);
+        final var logger = this.loggers.get(name);
+        if (logger != null) {
+            return logger;
         }
 
-        Class<?> caller;
-        var cache = true;
-
-        try {
-            caller = Class.forName(name);
-        } catch (final ClassNotFoundException ignored1) {
-            final var candidate = tryFindCaller(Thread.currentThread().getStackTrace());
-            if (candidate == null) {
-                return new ArcLogger(name, null);
-            }
-            try {
-                caller = Class.forName(candidate);
-                cache = false;
-            } catch (final ClassNotFoundException ignored2) {
-                return new ArcLogger(name, null);
-            }
+        final var caller = findCaller();
+        final var owner = caller == null ? null : CLASS_PLUGINS.get(caller).orElse(null);
+        final var key = owner == null ? name : owner + '\0' + name;
+        final var existing = this.attributed.get(key);
+        // Known to not be a class, skips the class lookup
+        if (existing != null) {
+            return existing;
         }
 
-        if (Plugin.class.isAssignableFrom(caller)) {
-            @SuppressWarnings("unchecked")
-            final var descriptor = PluginDescriptor.from((Class<? extends Plugin>) caller);
-            // Plugin loggers are found on the first lookup, thus if the cache flag is false,
-            // it means a custom logger has been created inside the plugin class
-            final var logger = cache
-                    ? new ArcLogger(descriptor.getDisplayName(), null)
-                    : new ArcLogger(name, descriptor.getDisplayName());
-            if (cache) {
-                this.loggers.put(name, logger);
-            }
-            return logger;
+        final var type = caller != null && caller.getName().equals(name) ? caller : findClass(name, caller);
+        if (type == null) {
+            return this.attributed.computeIfAbsent(key, k -> this.createLogger(name, owner));
         }
 
-        ClassLoader classLoader = caller.getClassLoader();
-        while (classLoader != null) {
-            if (classLoader.getParent() instanceof ModClassLoader) {
-                final PluginDescriptor descriptor;
-                try {
-                    descriptor = PluginDescriptor.from(classLoader);
-                } catch (final IOException ignored) {
-                    return this.createLogger(name, null, cache);
-                }
-                return this.createLogger(name, descriptor.getDisplayName(), cache);
-            }
-            classLoader = classLoader.getParent();
+        final var plugin = CLASS_PLUGINS.get(type).orElse(null);
+        // Plugin loggers are named after the plugin
+        return Plugin.class.isAssignableFrom(type) && plugin != null
+                ? this.loggers.computeIfAbsent(name, n -> this.createLogger(plugin, null))
+                : this.loggers.computeIfAbsent(name, n -> this.createLogger(n, plugin));
+    }
+
+    /**
+     * Sets the level of the loggers with the given name, in the given package or of the given plugin. The most
+     * specific level applies, the logger names before the packages and the packages before the plugins.
+     *
+     * @param target the name of the loggers, the package or the plugin
+     * @param level  the level, or {@code null} to remove it
+     */
+    public void setLevel(final String target, final @Nullable Level level) {
+        if (level == null) {
+            this.levels.remove(target);
+        } else {
+            this.levels.put(target, level);
+        }
+        for (final var logger : this.loggers.values()) {
+            logger.setLevel(this.findLevel(logger));
+        }
+        for (final var logger : this.attributed.values()) {
+            logger.setLevel(this.findLevel(logger));
         }
+    }
+
+    /**
+     * Returns the levels set with {@link #setLevel(String, Level)}.
+     */
+    public Map<String, Level> getLevels() {
+        return Collections.unmodifiableMap(this.levels);
+    }
 
-        return this.createLogger(name, null, cache);
+    /**
+     * Logs the summaries of the messages suppressed by the rate limit of the loggers, for the patterns that weren't
+     * logged again once their window was over.
+     */
+    public void flushSuppressedMessages() {
+        for (final var logger : this.loggers.values()) {
+            logger.flushSuppressed();
+        }
+        for (final var logger : this.attributed.values()) {
+            logger.flushSuppressed();
+        }
     }
 
-    private ArcLogger createLogger(final String name, final @Nullable String plugin, final boolean cache) {
+    private ArcLogger createLogger(final String name, final @Nullable String plugin) {
         final var logger = new ArcLogger(name, plugin);
-        if (cache) {
-            this.loggers.put(name, logger);
+        if (!this.levels.isEmpty()) {
+            logger.setLevel(this.findLevel(logger));
         }
         return logger;
     }
 
-    private @Nullable String tryFindCaller(final StackTraceElement[] stacktrace) {
-        return Arrays.stream(stacktrace)
-                .skip(3) // 0: stacktrace call, 1: ArcLoggerFactory#getLogger, 2: LoggerFactory#getLogger
-                .map(StackTraceElement::getClassName)
-                // Skips the logger wrappers
-                .dropWhile(clazz -> clazz.startsWith("org.slf4j")
-                        || clazz.startsWith("java.util.logging")
-                        || clazz.startsWith("sun.util.logging"))
+    private @Nullable Level findLevel(final ArcLogger logger) {
+        var name = logger.getName();
+        while (true) {
+            final var level = this.levels.get(name);
+            if (level != null) {
+                return level;
+            }
+            final var index = name.lastIndexOf('.');
+            if (index == -1) {
+                break;
+            }
+            name = name.substring(0, index);
+        }
+        return logger.getPlugin() == null ? null : this.levels.get(logger.getPlugin());
+    }
+
+    private static Optional<String> getPlugin(final ClassLoader classLoader) {
+        final var cached = LOADER_PLUGINS.get(classLoader);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<String> plugin;
+        try {
+            plugin = Optional.of(PluginDescriptor.from(classLoader).getDisplayName());
+        } catch (final IOException ignored) {
+            plugin = Optional.empty();
+        }
+        LOADER_PLUGINS.put(classLoader, plugin);
+        return plugin;
+    }
+
+    private static @Nullable Class<?> findCaller() {
+        return WALKER.walk(frames -> frames.map(StackWalker.StackFrame::getDeclaringClass)
+                // Skips this factory and the logger wrappers
+                .dropWhile(clazz -> clazz == ArcLoggerFactory.class
+                        || clazz.getName().startsWith("org.slf4j")
+                        || clazz.getName().startsWith("java.util.logging")
+                        || clazz.getName().startsWith("sun.util.logging"))
                 .findFirst()
-                .orElse(null);
+                .orElse(null));
+    }
+
+    private static @Nullable Class<?> findClass(final String name, final @Nullable Class<?> caller) {
+        final var classLoader = caller == null || caller.getClassLoader() == null
+                ? ArcLoggerFactory.class.getClassLoader()
+                : caller.getClassLoader();
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (final ClassNotFoundException | LinkageError ignored) {
+            return null;
+        }
     }
 }
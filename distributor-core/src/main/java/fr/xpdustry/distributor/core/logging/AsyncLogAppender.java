@@ -0,0 +1,172 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.logging;
+
+import arc.util.Log;
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An appender writing the messages of the {@link ArcLogger}s in Arc's {@link Log} from a dedicated thread, so the
+ * logging threads don't wait for the console. The messages are buffered in a bounded lock-free ring buffer, the
+ * {@link OverflowPolicy} decides what happens when it is full.
+ */
+public final class AsyncLogAppender implements Closeable {
+
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    // Waiting for the appender thread to free a slot, it writes thousands of messages in this time
+    private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000L;
+
+    private final LogRingBuffer<LogEntry> buffer;
+    private final OverflowPolicy policy;
+    private final Thread thread;
+    private final AtomicLong dropped = new AtomicLong();
+    // The producers between their check of the closed flag and the end of their offer
+    private final AtomicInteger producers = new AtomicInteger();
+    private volatile boolean waiting = false;
+    private volatile boolean closed = false;
+
+    public AsyncLogAppender(final int capacity, final OverflowPolicy policy) {
+        this.buffer = new LogRingBuffer<>(Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+        this.policy = policy;
+        this.thread = new Thread(this::run, "distributor-log-appender");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Returns the policy applied when the buffer is full.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Returns the maximum number of buffered messages.
+     */
+    public int getCapacity() {
+        return this.buffer.capacity();
+    }
+
+    /**
+     * Stops the appender, after writing the buffered messages.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.thread);
+        try {
+            this.thread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!this.thread.isAlive()) {
+            // The producers which didn't see the closed flag may still be offering their message,
+            // the others see it and write their message themselves
+            while (this.producers.get() != 0) {
+                LockSupport.parkNanos(BACKOFF_NANOS);
+            }
+            // Writes the messages appended while the appender was closing
+            this.flush();
+        }
+    }
+
+    // Returns false if the entry hasn't been taken, in which case the caller writes it
+    boolean append(final LogEntry entry) {
+        if (Thread.currentThread() == this.thread) {
+            return false;
+        }
+        // Registered before checking the closed flag, so close() either waits for this offer or is seen here
+        this.producers.incrementAndGet();
+        try {
+            if (this.closed) {
+                return false;
+            }
+            while (!this.buffer.offer(entry)) {
+                if (this.closed) {
+                    return false;
+                }
+                if (this.policy == OverflowPolicy.DROP
+                        || (this.policy == OverflowPolicy.DISCARD_DEBUG && entry.level() == Log.LogLevel.debug)) {
+                    this.dropped.incrementAndGet();
+                    return true;
+                }
+                LockSupport.unpark(this.thread);
+                LockSupport.parkNanos(BACKOFF_NANOS);
+            }
+        } finally {
+            this.producers.decrementAndGet();
+        }
+        if (this.waiting) {
+            LockSupport.unpark(this.thread);
+        }
+        return true;
+    }
+
+    private void run() {
+        while (!this.closed) {
+            if (!this.flush()) {
+                this.waiting = true;
+                if (this.buffer.isEmpty() && !this.closed) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                this.waiting = false;
+            }
+        }
+        this.flush();
+    }
+
+    // Returns whether anything has been written
+    private boolean flush() {
+        var written = false;
+        LogEntry entry;
+        while ((entry = this.buffer.poll()) != null) {
+            ArcLogger.write(entry);
+            written = true;
+        }
+        final var dropped = this.dropped.getAndSet(0L);
+        if (dropped != 0L) {
+            ArcLogger.write(new LogEntry(
+                    Log.LogLevel.warn, "Dropped " + dropped + " log messages since the log buffer was full.", null));
+        }
+        return written;
+    }
+
+    /**
+     * What to do with the new messages when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Waits for the buffer to have space.
+         */
+        BLOCK,
+        /**
+         * Drops the new messages.
+         */
+        DROP,
+        /**
+         * Drops the new debug and trace messages, waits for the buffer to have space for the others.
+         */
+        DISCARD_DEBUG
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.logging;
+
+import arc.util.Log;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * A log sink writing the messages of the {@link ArcLogger}s as newline-delimited JSON, for log pipelines.
+ * <br>
+ * Each line is an object with the {@code timestamp}, {@code level}, {@code logger}, {@code plugin}, {@code thread},
+ * {@code message}, {@code arguments} and {@code throwable} of a message. The current file is rotated when it exceeds
+ * the maximum size or when the day changes, the rotated files are then compressed and the oldest ones deleted by a
+ * background thread.
+ * <p>
+ * The logging threads only format the message and its arguments, then buffer it in a bounded lock-free ring buffer.
+ * The background thread writes the buffered messages a few times per second, the messages are dropped and counted
+ * when the buffer is full.
+ */
+public final class JsonLogSink implements Closeable {
+
+    private static final String EXTENSION = ".ndjson";
+    private static final String ARCHIVE_EXTENSION = EXTENSION + ".gz";
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+    private static final long DRAIN_INTERVAL_MILLIS = 50L;
+    private static final int BUFFER_CAPACITY = 8192;
+    // Delay before opening or rotating the file again after a failure
+    private static final long RETRY_INTERVAL_MILLIS = 1000L;
+    private static final String[] NO_ARGUMENTS = new String[0];
+
+    private final Path directory;
+    private final String name;
+    private final long maxFileSize;
+    private final int maxArchives;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+    private final LogRingBuffer<Entry> buffer = new LogRingBuffer<>(BUFFER_CAPACITY);
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed = false;
+
+    private @Nullable Writer writer = null;
+    private long size = 0L;
+    private LocalDate date;
+    private boolean failed = false;
+    private long retryAt = 0L;
+
+    /**
+     * Creates a new {@code JsonLogSink}, writing in {@code <directory>/<name>.ndjson}.
+     *
+     * @param directory   the directory of the log files
+     * @param name        the name of the log files
+     * @param maxFileSize the size in bytes after which the current file is rotated
+     * @param maxArchives the maximum number of rotated files to keep
+     * @param clock       the clock of the timestamps and daily rotation
+     * @throws IOException if the log file can't be opened
+     */
+    public JsonLogSink(
+            final Path directory, final String name, final long maxFileSize, final int maxArchives, final Clock clock)
+            throws IOException {
+        this.directory = directory;
+        this.name = name;
+        this.maxFileSize = maxFileSize;
+        this.maxArchives = maxArchives;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "distributor-json-log-sink");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Files.createDirectories(directory);
+        final var file = this.getFile();
+        this.date = LocalDate.now(clock);
+        if (Files.exists(file)) {
+            final var modified = LocalDate.ofInstant(Files.getLastModifiedTime(file).toInstant(), clock.getZone());
+            if (!modified.equals(this.date) || Files.size(file) >= maxFileSize) {
+                this.rotate(modified);
+            }
+        }
+        this.open();
+        this.executor.scheduleWithFixedDelay(
+                this::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        this.executor.scheduleWithFixedDelay(
+                () -> {
+                    synchronized (this) {
+                        this.drain();
+                    }
+                },
+                DRAIN_INTERVAL_MILLIS,
+                DRAIN_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the path of the current log file.
+     */
+    public Path getFile() {
+        return this.directory.resolve(this.name + EXTENSION);
+    }
+
+    /**
+     * Writes the buffered messages in the current file.
+     */
+    public synchronized void flush() {
+        this.drain();
+        if (this.writer == null) {
+            return;
+        }
+        try {
+            this.writer.flush();
+        } catch (final IOException e) {
+            this.fail(e);
+        }
+    }
+
+    /**
+     * Closes the current file, after waiting for the pending compressions.
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        synchronized (this) {
+            this.drain();
+            if (this.writer != null) {
+                this.writer.close();
+                this.writer = null;
+            }
+        }
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(10L, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void append(
+            final Level level,
+            final String logger,
+            final @Nullable String plugin,
+            final String pattern,
+            final @Nullable Object @Nullable [] arguments,
+            final @Nullable Throwable throwable) {
+        if (this.closed) {
+            return;
+        }
+        // The arguments are turned into strings right away, since they may change once the logging call returns
+        final String[] strings;
+        if (arguments == null) {
+            strings = NO_ARGUMENTS;
+        } else {
+            strings = new String[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                strings[i] = toString(arguments[i]);
+            }
+        }
+        final var entry = new Entry(
+                Instant.now(this.clock),
+                level,
+                logger,
+                plugin,
+                Thread.currentThread().getName(),
+                MessageFormatter.basicArrayFormat(pattern, arguments),
+                strings,
+                throwable);
+        if (!this.buffer.offer(entry)) {
+            this.dropped.incrementAndGet();
+        }
+    }
+
+    // Only called with the lock held, since the buffer only supports a single consumer
+    private void drain() {
+        Entry entry;
+        while ((entry = this.buffer.poll()) != null) {
+            this.write(entry);
+        }
+        final var dropped = this.dropped.getAndSet(0L);
+        if (dropped != 0L) {
+            Log.warn("Dropped " + dropped + " json log messages since the json log buffer was full.");
+        }
+    }
+
+    private void write(final Entry entry) {
+        final var now = this.clock.millis();
+        if (this.writer == null) {
+            if (now < this.retryAt) {
+                return;
+            }
+            try {
+                this.open();
+            } catch (final IOException e) {
+                this.fail(e);
+                return;
+            }
+        }
+
+        final var builder = new StringBuilder(128 + entry.message().length());
+        builder.append("{\"timestamp\":\"")
+                .append(DateTimeFormatter.ISO_INSTANT.format(entry.timestamp()))
+                .append("\",\"level\":\"")
+                .append(entry.level().name())
+                .append("\",\"logger\":");
+        appendString(builder, entry.logger());
+        builder.append(",\"plugin\":");
+        appendString(builder, entry.plugin());
+        builder.append(",\"thread\":");
+        appendString(builder, entry.thread());
+        builder.append(",\"message\":");
+        appendString(builder, entry.message());
+        builder.append(",\"arguments\":[");
+        for (int i = 0; i < entry.arguments().length; i++) {
+            if (i != 0) {
+                builder.append(',');
+            }
+            appendString(builder, entry.arguments()[i]);
+        }
+        builder.append("],\"throwable\":");
+        if (entry.throwable() == null) {
+            builder.append("null");
+        } else {
+            final var trace = new StringWriter();
+            entry.throwable().printStackTrace(new PrintWriter(trace));
+            appendString(builder, trace.toString());
+        }
+        builder.append("}\n");
+
+        try {
+            final var today = LocalDate.ofInstant(entry.timestamp(), this.clock.getZone());
+            if ((!today.equals(this.date) || this.size >= this.maxFileSize) && now >= this.retryAt) {
+                this.rotateCurrent(today);
+            }
+            this.writer.write(builder.toString());
+            // Approximated since the messages are mostly ASCII
+            this.size += builder.length();
+        } catch (final IOException e) {
+            this.fail(e);
+        }
+    }
+
+    private void open() throws IOException {
+        final var file = this.getFile();
+        this.writer = Files.newBufferedWriter(
+                file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.size = Files.size(file);
+        this.failed = false;
+    }
+
+    // If the file can't be rotated, the messages are still written in it until the next attempt
+    private void rotateCurrent(final LocalDate today) throws IOException {
+        try {
+            this.writer.close();
+        } finally {
+            this.writer = null;
+        }
+        try {
+            this.rotate(this.date);
+            this.date = today;
+        } catch (final IOException e) {
+            this.fail(e);
+        }
+        this.open();
+    }
+
+    private void rotate(final LocalDate date) throws IOException {
+        Path rotated;
+        int index = 1;
+        do {
+            rotated = this.directory.resolve(this.name + "-" + date + "-" + index++ + EXTENSION);
+        } while (Files.exists(rotated)
+                || Files.exists(rotated.resolveSibling(rotated.getFileName() + ".gz")));
+        Files.move(this.getFile(), rotated);
+        final var target = rotated;
+        this.executor.execute(() -> this.compress(target));
+    }
+
+    private void compress(final Path file) {
+        final var archive = file.resolveSibling(file.getFileName() + ".gz");
+        try {
+            try (final var output = new GZIPOutputStream(Files.newOutputStream(archive))) {
+                Files.copy(file, output);
+            }
+            Files.delete(file);
+
+            final var archives = new ArrayList<Map.Entry<Path, FileTime>>();
+            try (final var files = Files.list(this.directory)) {
+                for (final var path : (Iterable<Path>) files::iterator) {
+                    final var string = path.getFileName().toString();
+                    if (string.startsWith(this.name + "-") && string.endsWith(ARCHIVE_EXTENSION)) {
+                        archives.add(Map.entry(path, Files.getLastModifiedTime(path)));
+                    }
+                }
+            }
+            archives.sort(Map.Entry.comparingByValue());
+            for (int i = 0; i < archives.size() - this.maxArchives; i++) {
+                Files.deleteIfExists(archives.get(i).getKey());
+            }
+        } catch (final IOException e) {
+            Log.err("Failed to compress the log file " + file);
+            Log.err(e);
+        }
+    }
+
+    private void fail(final IOException exception) {
+        this.retryAt = this.clock.millis() + RETRY_INTERVAL_MILLIS;
+        // Reported only once until the file is opened again, since the failures are usually persistent
+        if (!this.failed) {
+            this.failed = true;
+            Log.err("Failed to write in the json log file " + this.getFile());
+            Log.err(exception);
+        }
+    }
+
+    // Guarded like the formatting of the message, a failing toString must not fail the logging call
+    private static @Nullable String toString(final @Nullable Object object) {
+        if (object == null) {
+            return null;
+        }
+        try {
+            return String.valueOf(object);
+        } catch (final Throwable e) {
+            return "[FAILED toString()]";
+        }
+    }
+
+    private static void appendString(final StringBuilder builder, final @Nullable String string) {
+        if (string == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (int i = 0; i < string.length(); i++) {
+            final var c = string.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+
+    private record Entry(
+            Instant timestamp,
+            Level level,
+            String logger,
+            @Nullable String plugin,
+            String thread,
+            String message,
+            @Nullable String[] arguments,
+            @Nullable Throwable throwable) {}
+}
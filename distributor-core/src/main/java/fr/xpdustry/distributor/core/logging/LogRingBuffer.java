@@ -0,0 +1,92 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded lock-free ring buffer, for multiple producers and a single consumer.
+ */
+final class LogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> elements;
+    // The position a slot is waiting for, a producer can fill it when equal to its position,
+    // the consumer can read it when equal to its position + 1
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong producer = new AtomicLong();
+    private final AtomicLong consumer = new AtomicLong();
+
+    LogRingBuffer(final int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two greater than 1: " + capacity);
+        }
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    boolean offer(final E element) {
+        var position = this.producer.get();
+        while (true) {
+            final var index = (int) (position & this.mask);
+            final var difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.producer.compareAndSet(position, position + 1)) {
+                    this.elements.set(index, element);
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+                position = this.producer.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = this.producer.get();
+            }
+        }
+    }
+
+    // Must only be called by the consumer thread
+    @Nullable E poll() {
+        final var position = this.consumer.get();
+        final var index = (int) (position & this.mask);
+        if (this.sequences.get(index) != position + 1) {
+            return null;
+        }
+        final var element = this.elements.get(index);
+        this.elements.set(index, null);
+        this.sequences.set(index, position + this.mask + 1);
+        this.consumer.set(position + 1);
+        return element;
+    }
+
+    boolean isEmpty() {
+        return this.consumer.get() == this.producer.get();
+    }
+
+    int capacity() {
+        return this.mask + 1;
+    }
+}
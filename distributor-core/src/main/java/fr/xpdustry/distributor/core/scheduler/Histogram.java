@@ -0,0 +1,109 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram with power of two buckets, used to record scheduler metrics.
+ * The bucket {@code i} contains the values in the range {@code [2^(i-1), 2^i - 1]}, the bucket 0 containing zero.
+ */
+public final class Histogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value in this histogram. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(final long value) {
+        final var clamped = Math.max(0L, value);
+        this.buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(clamped));
+        this.count.incrementAndGet();
+        this.sum.addAndGet(clamped);
+        this.max.accumulateAndGet(clamped, Math::max);
+    }
+
+    /**
+     * Returns a point-in-time copy of this histogram.
+     */
+    public Snapshot snapshot() {
+        final var copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = this.buckets.get(i);
+        }
+        return new Snapshot(this.count.get(), this.sum.get(), this.max.get(), copy);
+    }
+
+    /**
+     * An immutable copy of a {@link Histogram}.
+     *
+     * @param count   the number of recorded values
+     * @param sum     the sum of the recorded values
+     * @param max     the highest recorded value
+     * @param buckets the number of recorded values per bucket
+     */
+    public record Snapshot(long count, long sum, long max, long[] buckets) {
+
+        public Snapshot {
+            buckets = buckets.clone();
+        }
+
+        /**
+         * Returns the mean of the recorded values, or {@code 0} if no values were recorded.
+         */
+        public double mean() {
+            return this.count == 0 ? 0D : (double) this.sum / this.count;
+        }
+
+        /**
+         * Returns an upper bound estimate of the given percentile, capped by the highest recorded value.
+         *
+         * @param percentile the percentile, between {@code 0} and {@code 1}
+         * @return the estimated value
+         */
+        public long percentile(final double percentile) {
+            if (percentile < 0D || percentile > 1D) {
+                throw new IllegalArgumentException("The percentile must be between 0 and 1: " + percentile);
+            }
+            final var threshold = (long) Math.ceil(percentile * this.count);
+            long seen = 0L;
+            for (int i = 0; i < this.buckets.length; i++) {
+                seen += this.buckets[i];
+                if (seen >= threshold && seen != 0L) {
+                    final var upper = i == 0 ? 0L : (1L << i) - 1L;
+                    return Math.min(upper, this.max);
+                }
+            }
+            return this.max;
+        }
+
+        @Override
+        public long[] buckets() {
+            return this.buckets.clone();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
+import fr.xpdustry.distributor.api.scheduler.PluginTask;
+import fr.xpdustry.distributor.api.scheduler.PluginTaskPipeline;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class PipelinePluginTask<V> implements PluginTask<V> {
+
+    private final SimplePluginScheduler scheduler;
+    private final MindustryPlugin plugin;
+    private final List<Stage> stages;
+    private final CompletableFuture<V> completion = new CompletableFuture<>();
+    // The threads currently running a step, interrupted on cancellation
+    private final Set<Thread> runners = new HashSet<>();
+
+    private PipelinePluginTask(
+            final SimplePluginScheduler scheduler, final MindustryPlugin plugin, final List<Stage> stages) {
+        this.scheduler = scheduler;
+        this.plugin = plugin;
+        this.stages = stages;
+    }
+
+    @Override
+    public boolean isAsync() {
+        return !this.stages.isEmpty() && this.stages.get(0).isAsync();
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        final var cancelled = this.completion.cancel(mayInterruptIfRunning);
+        if (cancelled && mayInterruptIfRunning) {
+            synchronized (this.runners) {
+                this.runners.forEach(Thread::interrupt);
+            }
+        }
+        return cancelled;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return this.completion.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return this.completion.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        return this.completion.get();
+    }
+
+    @Override
+    public V get(final long timeout, final TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return this.completion.get(timeout, unit);
+    }
+
+    @Override
+    public MindustryPlugin getPlugin() {
+        return this.plugin;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void next(final @Nullable Object value, final int index) {
+        if (this.completion.isDone()) {
+            return;
+        }
+        if (index == this.stages.size()) {
+            this.completion.complete((V) value);
+            return;
+        }
+        try {
+            this.stages.get(index).start(this, value, index);
+        } catch (final RejectedExecutionException e) {
+            this.completion.completeExceptionally(e);
+        }
+    }
+
+    private void submit(final boolean async, final Runnable runnable) {
+        this.scheduler.getExecutor(async).execute(runnable);
+    }
+
+    private void enter() {
+        synchronized (this.runners) {
+            this.runners.add(Thread.currentThread());
+        }
+    }
+
+    private void exit() {
+        synchronized (this.runners) {
+            this.runners.remove(Thread.currentThread());
+        }
+        // No interruption can happen past this point, so clear the one targeting this pipeline
+        if (this.completion.isCancelled()) {
+            Thread.interrupted();
+        }
+    }
+
+    private sealed interface Stage permits FusedStage, ForkStage {
+
+        boolean isAsync();
+
+        void start(final PipelinePluginTask<?> task, final @Nullable Object value, final int index);
+    }
+
+    private record FusedStage(boolean async, List<Function<@Nullable Object, @Nullable Object>> steps)
+            implements Stage {
+
+        @Override
+        public boolean isAsync() {
+            return this.async;
+        }
+
+        @Override
+        public void start(final PipelinePluginTask<?> task, final @Nullable Object value, final int index) {
+            task.submit(this.async, () -> {
+                var current = value;
+                task.enter();
+                try {
+                    for (final var step : this.steps) {
+                        if (task.completion.isDone()) {
+                            return;
+                        }
+                        current = step.apply(current);
+                    }
+                } catch (final Throwable throwable) {
+                    task.completion.completeExceptionally(throwable);
+                    return;
+                } finally {
+                    task.exit();
+                }
+                task.next(current, index + 1);
+            });
+        }
+
+        private FusedStage with(final Function<@Nullable Object, @Nullable Object> step) {
+            final var steps = new ArrayList<>(this.steps);
+            steps.add(step);
+            return new FusedStage(this.async, List.copyOf(steps));
+        }
+    }
+
+    private record ForkStage(List<Function<@Nullable Object, @Nullable Object>> branches) implements Stage {
+
+        @Override
+        public boolean isAsync() {
+            return true;
+        }
+
+        @Override
+        public void start(final PipelinePluginTask<?> task, final @Nullable Object value, final int index) {
+            if (this.branches.isEmpty()) {
+                task.next(Collections.emptyList(), index + 1);
+                return;
+            }
+            final var results = new @Nullable Object[this.branches.size()];
+            final var remaining = new AtomicInteger(this.branches.size());
+            for (int i = 0; i < this.branches.size(); i++) {
+                final var branch = this.branches.get(i);
+                final var slot = i;
+                task.submit(true, () -> {
+                    if (task.completion.isDone()) {
+                        return;
+                    }
+                    task.enter();
+                    try {
+                        results[slot] = branch.apply(value);
+                    } catch (final Throwable throwable) {
+                        task.completion.completeExceptionally(throwable);
+                        return;
+                    } finally {
+                        task.exit();
+                    }
+                    // The atomic decrement publishes the results to the thread resuming the pipeline
+                    if (remaining.decrementAndGet() == 0) {
+                        task.next(Collections.unmodifiableList(Arrays.asList(results)), index + 1);
+                    }
+                });
+            }
+        }
+    }
+
+    static final class Builder<V> implements PluginTaskPipeline<V> {
+
+        private final SimplePluginScheduler scheduler;
+        private final MindustryPlugin plugin;
+        private final @Nullable Object initialObject;
+        private final List<Stage> stages;
+
+        Builder(
+                final SimplePluginScheduler scheduler,
+                final MindustryPlugin plugin,
+                final @Nullable Object initialObject,
+                final List<Stage> stages) {
+            this.scheduler = scheduler;
+            this.plugin = plugin;
+            this.initialObject = initialObject;
+            this.stages = stages;
+        }
+
+        @Override
+        public PluginTaskPipeline<V> thenAccept(final Consumer<? super V> consumer) {
+            return this.withStep(accepting(consumer), false);
+        }
+
+        @Override
+        public <R> PluginTaskPipeline<R> thenApply(final Function<? super V, ? extends R> function) {
+            return this.withStep(erase(function), false);
+        }
+
+        @Override
+        public PluginTaskPipeline<V> thenRun(final Runnable runnable) {
+            return this.withStep(running(runnable), false);
+        }
+
+        @Override
+        public PluginTaskPipeline<V> thenAcceptAsync(final Consumer<? super V> consumer) {
+            return this.withStep(accepting(consumer), true);
+        }
+
+        @Override
+        public <R> PluginTaskPipeline<R> thenApplyAsync(final Function<? super V, ? extends R> function) {
+            return this.withStep(erase(function), true);
+        }
+
+        @Override
+        public PluginTaskPipeline<V> thenRunAsync(final Runnable runnable) {
+            return this.withStep(running(runnable), true);
+        }
+
+        @Override
+        public <R> PluginTaskPipeline<List<R>> thenForkAsync(
+                final List<? extends Function<? super V, ? extends R>> functions) {
+            final var branches = functions.stream().map(Builder::erase).toList();
+            final var stages = new ArrayList<>(this.stages);
+            stages.add(new ForkStage(branches));
+            return new Builder<>(this.scheduler, this.plugin, this.initialObject, stages);
+        }
+
+        @Override
+        public PluginTask<V> execute() {
+            final var task = new PipelinePluginTask<V>(this.scheduler, this.plugin, List.copyOf(this.stages));
+            task.next(this.initialObject, 0);
+            return task;
+        }
+
+        private <R> PluginTaskPipeline<R> withStep(
+                final Function<@Nullable Object, @Nullable Object> step, final boolean async) {
+            final var stages = new ArrayList<>(this.stages);
+            // Adjacent steps on the same executor are fused into a single stage
+            if (!stages.isEmpty()
+                    && stages.get(stages.size() - 1) instanceof final FusedStage last
+                    && last.async() == async) {
+                stages.set(stages.size() - 1, last.with(step));
+            } else {
+                stages.add(new FusedStage(async, List.of(step)));
+            }
+            return new Builder<>(this.scheduler, this.plugin, this.initialObject, stages);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Function<@Nullable Object, @Nullable Object> erase(final Function<?, ?> function) {
+            return (Function<@Nullable Object, @Nullable Object>) function;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Function<@Nullable Object, @Nullable Object> accepting(final Consumer<? super V> consumer) {
+            return value -> {
+                consumer.accept((V) value);
+                return value;
+            };
+        }
+
+        private static Function<@Nullable Object, @Nullable Object> running(final Runnable runnable) {
+            return value -> {
+                runnable.run();
+                return value;
+            };
+        }
+    }
+}
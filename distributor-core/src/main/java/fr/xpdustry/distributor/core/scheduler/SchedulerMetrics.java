@@ -0,0 +1,143 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the metrics of a {@link SimplePluginScheduler}, such as the scheduling lag and the execution time of the
+ * tasks per plugin and task type, or the depth of the task queue.
+ */
+public final class SchedulerMetrics {
+
+    private final Map<Key, TaskMetrics> tasks = new ConcurrentHashMap<>();
+    private final Histogram queueDepth = new Histogram();
+    private final AtomicInteger currentQueueDepth = new AtomicInteger();
+
+    SchedulerMetrics() {}
+
+    /**
+     * Returns a point-in-time copy of the metrics, suitable for exporters.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(
+                this.currentQueueDepth.get(),
+                this.queueDepth.snapshot(),
+                this.tasks.entrySet().stream()
+                        .collect(Collectors.toUnmodifiableMap(
+                                entry -> new TaskKey(
+                                        entry.getKey().plugin().getDescriptor().getName(),
+                                        entry.getKey().type()),
+                                entry -> entry.getValue().snapshot())));
+    }
+
+    TaskMetrics getTaskMetrics(final MindustryPlugin plugin, final TaskType type) {
+        return this.tasks.computeIfAbsent(new Key(plugin, type), key -> new TaskMetrics());
+    }
+
+    void recordQueueDepth(final int depth) {
+        this.currentQueueDepth.set(depth);
+        this.queueDepth.record(depth);
+    }
+
+    /**
+     * The type of scheduled task.
+     */
+    public enum TaskType {
+        SYNC,
+        ASYNC,
+        SYNC_REPEATING,
+        ASYNC_REPEATING;
+
+        static TaskType of(final boolean async, final boolean repeating) {
+            if (repeating) {
+                return async ? ASYNC_REPEATING : SYNC_REPEATING;
+            } else {
+                return async ? ASYNC : SYNC;
+            }
+        }
+    }
+
+    /**
+     * Identifies the tasks of a given type scheduled by a plugin.
+     *
+     * @param plugin the name of the plugin
+     * @param type   the type of the tasks
+     */
+    public record TaskKey(String plugin, TaskType type) {}
+
+    /**
+     * The metrics of the tasks of a given type scheduled by a plugin.
+     *
+     * @param lag           the delay in ticks between the planned and the actual start of the executions
+     * @param execution     the execution time of the tasks in nanoseconds
+     * @param failures      the number of executions that failed with an exception
+     * @param periodicTasks the number of repeating tasks currently scheduled
+     */
+    public record TaskStatistics(
+            Histogram.Snapshot lag, Histogram.Snapshot execution, long failures, int periodicTasks) {}
+
+    /**
+     * A point-in-time copy of the {@link SchedulerMetrics}.
+     *
+     * @param currentQueueDepth the number of tasks waiting in the queue at the last update
+     * @param queueDepth        the number of tasks waiting in the queue, recorded at each update
+     * @param tasks             the statistics per plugin and task type
+     */
+    public record Snapshot(int currentQueueDepth, Histogram.Snapshot queueDepth, Map<TaskKey, TaskStatistics> tasks) {}
+
+    private record Key(MindustryPlugin plugin, TaskType type) {}
+
+    static final class TaskMetrics {
+
+        private final Histogram lag = new Histogram();
+        private final Histogram execution = new Histogram();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicInteger periodicTasks = new AtomicInteger();
+
+        private TaskMetrics() {}
+
+        void recordExecution(final long lag, final long nanos) {
+            this.lag.record(lag);
+            this.execution.record(nanos);
+        }
+
+        void recordFailure() {
+            this.failures.incrementAndGet();
+        }
+
+        void incrementPeriodicTasks() {
+            this.periodicTasks.incrementAndGet();
+        }
+
+        void decrementPeriodicTasks() {
+            this.periodicTasks.decrementAndGet();
+        }
+
+        private TaskStatistics snapshot() {
+            return new TaskStatistics(
+                    this.lag.snapshot(), this.execution.snapshot(), this.failures.get(), this.periodicTasks.get());
+        }
+    }
+}
@@ -21,10 +21,14 @@ package fr.xpdustry.distributor.core.scheduler;
 import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
 import fr.xpdustry.distributor.api.plugin.PluginListener;
 import fr.xpdustry.distributor.api.scheduler.Cancellable;
+import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
 import fr.xpdustry.distributor.api.scheduler.PluginScheduler;
 import fr.xpdustry.distributor.api.scheduler.PluginTask;
+import fr.xpdustry.distributor.api.scheduler.PluginTaskBatcher;
 import fr.xpdustry.distributor.api.scheduler.PluginTaskBuilder;
+import fr.xpdustry.distributor.api.scheduler.PluginTaskPipeline;
 import fr.xpdustry.distributor.api.scheduler.PluginTaskRecipe;
+import fr.xpdustry.distributor.api.scheduler.TaskClock;
 import fr.xpdustry.distributor.api.scheduler.TaskHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -34,7 +38,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.PriorityBlockingQueue;
@@ -50,16 +57,57 @@ public final class SimplePluginScheduler implements PluginScheduler, PluginListe
     static final String DISTRIBUTOR_WORKER_BASE_NAME = "distributor-worker-";
     private static final Logger logger = LoggerFactory.getLogger("PluginScheduler");
 
-    private final Queue<ScheduledPluginTask<?>> tasks =
-            new PriorityBlockingQueue<>(16, Comparator.comparing(ScheduledPluginTask::getNextExecutionTime));
-    private final ForkJoinPool pool;
+    private final SchedulerMetrics metrics = new SchedulerMetrics();
+    private final Set<SimplePluginTaskBatcher<?>> batchers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService pool;
+    // Exposed instead of the pool, so the callers can't shut it down
+    private final Executor asyncExecutor;
     private final Executor syncExecutor;
-    private final TimeSource source;
+    private final Timeline gameTimeline;
+    private final Timeline realTimeline;
 
     public SimplePluginScheduler(final TimeSource source, final Executor syncExecutor, final int parallelism) {
-        this.pool = new ForkJoinPool(parallelism, new PluginSchedulerWorkerThreadFactory(), null, false);
+        this(source, TimeSource.monotonic(), syncExecutor, parallelism);
+    }
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param gameSource   the time source of the tasks using {@link TaskClock#GAME_TIME}.
+     * @param realSource   the time source of the tasks using {@link TaskClock#REAL_TIME}.
+     * @param syncExecutor the executor of the sync tasks.
+     * @param parallelism  the number of worker threads of the async tasks.
+     */
+    public SimplePluginScheduler(
+            final TimeSource gameSource,
+            final TimeSource realSource,
+            final Executor syncExecutor,
+            final int parallelism) {
+        this(
+                gameSource,
+                realSource,
+                syncExecutor,
+                new ForkJoinPool(parallelism, new PluginSchedulerWorkerThreadFactory(), null, false));
+    }
+
+    /**
+     * Creates a new scheduler with a custom executor for the async tasks, shut down with the scheduler.
+     *
+     * @param gameSource    the time source of the tasks using {@link TaskClock#GAME_TIME}.
+     * @param realSource    the time source of the tasks using {@link TaskClock#REAL_TIME}.
+     * @param syncExecutor  the executor of the sync tasks.
+     * @param asyncExecutor the executor of the async tasks.
+     */
+    public SimplePluginScheduler(
+            final TimeSource gameSource,
+            final TimeSource realSource,
+            final Executor syncExecutor,
+            final ExecutorService asyncExecutor) {
+        this.pool = asyncExecutor;
+        this.asyncExecutor = asyncExecutor::execute;
         this.syncExecutor = syncExecutor;
-        this.source = source;
+        this.gameTimeline = new Timeline(gameSource);
+        this.realTimeline = new Timeline(realSource);
     }
 
     @Override
@@ -72,6 +120,28 @@ public final class SimplePluginScheduler implements PluginScheduler, PluginListe
         return new SimplePluginTask.Builder(this, plugin, false);
     }
 
+    @Override
+    public <V> PluginTaskPipeline<V> pipeline(final MindustryPlugin plugin, final V value) {
+        return new PipelinePluginTask.Builder<>(this, plugin, value, List.of());
+    }
+
+    @Override
+    public <T> PluginTaskBatcher<T> batcher(
+            final MindustryPlugin plugin,
+            final int maxSize,
+            final long maxDelay,
+            final MindustryTimeUnit unit,
+            final Consumer<List<T>> consumer) {
+        final var batcher = new SimplePluginTaskBatcher<>(this, plugin, maxSize, maxDelay, unit, consumer);
+        this.batchers.add(batcher);
+        return batcher;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
     @SuppressWarnings("removal")
     @Override
     public <V> PluginTaskRecipe<V> recipe(final MindustryPlugin plugin, final V value) {
@@ -97,8 +167,13 @@ public final class SimplePluginScheduler implements PluginScheduler, PluginListe
             }
 
             final var builder = annotation.async() ? this.scheduleAsync(plugin) : this.scheduleSync(plugin);
+            builder.clock(annotation.clock());
             if (annotation.interval() > -1) {
-                builder.repeat(annotation.interval(), annotation.unit());
+                if (annotation.fixedRate()) {
+                    builder.repeatAtFixedRate(annotation.interval(), annotation.unit(), annotation.catchUp());
+                } else {
+                    builder.repeat(annotation.interval(), annotation.unit());
+                }
             }
             if (annotation.delay() > -1) {
                 builder.delay(annotation.delay(), annotation.unit());
@@ -110,18 +185,9 @@ public final class SimplePluginScheduler implements PluginScheduler, PluginListe
 
     @Override
     public void onPluginUpdate() {
-        while (!this.tasks.isEmpty()) {
-            final var task = this.tasks.peek();
-            if (task.isCancelled()) {
-                this.tasks.remove();
-            } else if (task.getNextExecutionTime() < this.source.getCurrentTicks()) {
-                this.tasks.remove();
-                final Executor executor = task.isAsync() ? this.pool : this.syncExecutor;
-                executor.execute(task);
-            } else {
-                break;
-            }
-        }
+        this.metrics.recordQueueDepth(this.gameTimeline.size() + this.realTimeline.size());
+        this.gameTimeline.update();
+        this.realTimeline.update();
     }
 
     @Override
@@ -143,20 +209,99 @@ public final class SimplePluginScheduler implements PluginScheduler, PluginListe
         } catch (final InterruptedException e) {
             logger.error("The plugin scheduler shutdown have been interrupted.", e);
         }
+        // The remaining batches are consumed in this thread, the async tasks can't run anymore
+        for (final var batcher : this.batchers) {
+            try {
+                batcher.closeNow();
+            } catch (final Exception e) {
+                logger.error(
+                        "Failed to flush a batcher of the plugin {}.",
+                        batcher.getPlugin().getDescriptor().getName(),
+                        e);
+            }
+        }
+        this.batchers.clear();
+    }
+
+    /**
+     * Returns the metrics of this scheduler.
+     */
+    public SchedulerMetrics getMetrics() {
+        return this.metrics;
     }
 
     void schedule(final ScheduledPluginTask<?> task) {
-        this.tasks.add(task);
+        this.gameTimeline.schedule(task);
+    }
+
+    Timeline getTimeline(final TaskClock clock) {
+        return clock == TaskClock.REAL_TIME ? this.realTimeline : this.gameTimeline;
     }
 
-    TimeSource getTimeSource() {
-        return this.source;
+    void unregister(final SimplePluginTaskBatcher<?> batcher) {
+        this.batchers.remove(batcher);
     }
 
     boolean isShutdown() {
         return this.pool.isShutdown();
     }
 
+    Executor getExecutor(final boolean async) {
+        return async ? this.pool : this.syncExecutor;
+    }
+
+    private void execute(final ScheduledPluginTask<?> task) {
+        this.getExecutor(task.isAsync()).execute(task);
+    }
+
+    /**
+     * The pending tasks of a given clock.
+     */
+    final class Timeline {
+
+        private final Queue<ScheduledPluginTask<?>> tasks =
+                new PriorityBlockingQueue<>(16, Comparator.comparing(ScheduledPluginTask::getNextExecutionTime));
+        private final TimeSource source;
+        private final TaskWheel wheel;
+
+        private Timeline(final TimeSource source) {
+            this.source = source;
+            this.wheel = new TaskWheel(source.getCurrentTicks(), SimplePluginScheduler.this::execute);
+        }
+
+        void schedule(final ScheduledPluginTask<?> task) {
+            this.tasks.add(task);
+        }
+
+        void scheduleRepeating(final SimplePluginTask<?> task) {
+            this.wheel.submit(task);
+        }
+
+        TimeSource getTimeSource() {
+            return this.source;
+        }
+
+        private int size() {
+            return this.tasks.size() + this.wheel.size();
+        }
+
+        private void update() {
+            final var now = this.source.getCurrentTicks();
+            while (!this.tasks.isEmpty()) {
+                final var task = this.tasks.peek();
+                if (task.isCancelled()) {
+                    this.tasks.remove();
+                } else if (task.getNextExecutionTime() < now) {
+                    this.tasks.remove();
+                    SimplePluginScheduler.this.execute(task);
+                } else {
+                    break;
+                }
+            }
+            this.wheel.advance(now);
+        }
+    }
+
     private static final class PluginSchedulerWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
         private static final AtomicInteger COUNT = new AtomicInteger(0);
@@ -20,49 +20,92 @@ package fr.xpdustry.distributor.core.scheduler;
 
 import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
 import fr.xpdustry.distributor.api.scheduler.Cancellable;
+import fr.xpdustry.distributor.api.scheduler.CatchUpPolicy;
 import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
 import fr.xpdustry.distributor.api.scheduler.PluginTask;
 import fr.xpdustry.distributor.api.scheduler.PluginTaskBuilder;
+import fr.xpdustry.distributor.api.scheduler.TaskClock;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class SimplePluginTask<V> extends FutureTask<V> implements ScheduledPluginTask<V> {
 
     private final MindustryPlugin plugin;
     private final boolean async;
     private final long period;
+    private final @Nullable CatchUpPolicy policy;
     private final SimplePluginScheduler scheduler;
+    private final SimplePluginScheduler.Timeline timeline;
+    private final SchedulerMetrics.TaskMetrics metrics;
     private long nextRun;
+    // The theoretical execution time of a task repeated at a fixed rate, always a multiple of the period away from
+    // the first execution time, so the cadence does not drift.
+    private long scheduledRun;
+    // Intrusive link used by the TaskWheel, a repeating task is always in at most one of its lists
+    @Nullable SimplePluginTask<?> next = null;
 
     private SimplePluginTask(
             final MindustryPlugin plugin,
             final Callable<V> callable,
             final boolean async,
             final long period,
-            final SimplePluginScheduler scheduler) {
+            final @Nullable CatchUpPolicy policy,
+            final SimplePluginScheduler scheduler,
+            final TaskClock clock) {
         super(callable);
         this.plugin = plugin;
         this.async = async;
         this.period = period;
+        this.policy = policy;
         this.scheduler = scheduler;
+        this.timeline = scheduler.getTimeline(clock);
+        this.metrics = scheduler.getMetrics().getTaskMetrics(plugin, SchedulerMetrics.TaskType.of(async, period != 0));
     }
 
     @Override
     public void run() {
-        if (this.scheduler.isShutdown()
-                && (this.period == 0
-                        || this.nextRun - this.scheduler.getTimeSource().getCurrentTicks() > 0)) {
+        final var lag = this.timeline.getTimeSource().getCurrentTicks() - this.nextRun;
+        if (this.scheduler.isShutdown() && (this.period == 0 || lag < 0)) {
             this.cancel(false);
-        } else if (this.period == 0) {
+            return;
+        }
+        final var start = System.nanoTime();
+        if (this.period == 0) {
             super.run();
-        } else if (super.runAndReset()) {
-            this.nextRun = this.scheduler.getTimeSource().getCurrentTicks() + this.period;
-            this.scheduler.schedule(this);
+            this.metrics.recordExecution(lag, System.nanoTime() - start);
+        } else {
+            final var reset = super.runAndReset();
+            this.metrics.recordExecution(lag, System.nanoTime() - start);
+            if (reset) {
+                this.nextRun = this.computeNextRun(this.timeline.getTimeSource().getCurrentTicks());
+                this.timeline.scheduleRepeating(this);
+            }
+        }
+    }
+
+    private long computeNextRun(final long now) {
+        if (this.policy == null) {
+            return now + this.period;
+        }
+        this.scheduledRun += this.period;
+        // Not late if the next run is due now, the timeline dispatches it at the next tick
+        if (this.scheduledRun >= now) {
+            return this.scheduledRun;
         }
+        final var missed = (now - this.scheduledRun) / this.period;
+        return switch (this.policy) {
+            case RUN_ALL -> this.scheduledRun;
+            case SKIP -> this.scheduledRun += (missed + 1) * this.period;
+            case COALESCE -> {
+                this.scheduledRun += missed * this.period;
+                yield now;
+            }
+        };
     }
 
     @Override
@@ -75,8 +118,16 @@ public final class SimplePluginTask<V> extends FutureTask<V> implements Schedule
         return this.plugin;
     }
 
+    @Override
+    protected void done() {
+        if (this.period != 0) {
+            this.metrics.decrementPeriodicTasks();
+        }
+    }
+
     @Override
     protected void setException(final Throwable throwable) {
+        this.metrics.recordFailure();
         super.setException(throwable);
         this.plugin
                 .getLogger()
@@ -98,6 +149,8 @@ public final class SimplePluginTask<V> extends FutureTask<V> implements Schedule
         private final boolean async;
         private long delay = 0;
         private long repeat = 0;
+        private @Nullable CatchUpPolicy policy = null;
+        private TaskClock clock = TaskClock.GAME_TIME;
 
         public Builder(final SimplePluginScheduler scheduler, final MindustryPlugin plugin, final boolean async) {
             this.scheduler = scheduler;
@@ -114,13 +167,34 @@ public final class SimplePluginTask<V> extends FutureTask<V> implements Schedule
         @Override
         public PluginTaskBuilder repeat(final long interval, final MindustryTimeUnit unit) {
             this.repeat = MindustryTimeUnit.TICKS.convert(interval, unit);
+            this.policy = null;
+            return this;
+        }
+
+        @Override
+        public PluginTaskBuilder repeatAtFixedRate(
+                final long interval, final MindustryTimeUnit unit, final CatchUpPolicy policy) {
+            this.repeat = MindustryTimeUnit.TICKS.convert(interval, unit);
+            this.policy = policy;
+            return this;
+        }
+
+        @Override
+        public PluginTaskBuilder clock(final TaskClock clock) {
+            this.clock = clock;
             return this;
         }
 
         @Override
         public PluginTask<Void> execute(final Runnable runnable) {
             final var task = new SimplePluginTask<Void>(
-                    this.plugin, Executors.callable(runnable, null), this.async, this.repeat, this.scheduler);
+                    this.plugin,
+                    Executors.callable(runnable, null),
+                    this.async,
+                    this.repeat,
+                    this.policy,
+                    this.scheduler,
+                    this.clock);
             return this.schedule(task);
         }
 
@@ -132,21 +206,29 @@ public final class SimplePluginTask<V> extends FutureTask<V> implements Schedule
                     Executors.callable(() -> consumer.accept(cancellable), null),
                     this.async,
                     this.repeat,
-                    this.scheduler);
+                    this.policy,
+                    this.scheduler,
+                    this.clock);
             cancellable.task = task;
             return this.schedule(task);
         }
 
         @Override
         public <V> PluginTask<V> execute(final Supplier<V> supplier) {
-            final var task =
-                    new SimplePluginTask<>(this.plugin, supplier::get, this.async, this.repeat, this.scheduler);
+            final var task = new SimplePluginTask<>(
+                    this.plugin, supplier::get, this.async, this.repeat, this.policy, this.scheduler, this.clock);
             return this.schedule(task);
         }
 
         private <V> ScheduledPluginTask<V> schedule(final SimplePluginTask<V> task) {
-            task.nextRun = this.scheduler.getTimeSource().getCurrentTicks() + this.delay;
-            this.scheduler.schedule(task);
+            task.nextRun = task.timeline.getTimeSource().getCurrentTicks() + this.delay;
+            task.scheduledRun = task.nextRun;
+            if (task.period != 0) {
+                task.metrics.incrementPeriodicTasks();
+                task.timeline.scheduleRepeating(task);
+            } else {
+                task.timeline.schedule(task);
+            }
             return task;
         }
     }
@@ -0,0 +1,168 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
+import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
+import fr.xpdustry.distributor.api.scheduler.PluginTaskBatcher;
+import fr.xpdustry.distributor.api.scheduler.TaskClock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+final class SimplePluginTaskBatcher<T> implements PluginTaskBatcher<T> {
+
+    private final Queue<T> items = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // Whether a delayed flush is pending for the buffered items
+    private final AtomicBoolean armed = new AtomicBoolean();
+    // Whether the undersized batches must be consumed by the next drain
+    private final AtomicBoolean requested = new AtomicBoolean();
+    // Whether a drain is scheduled or running, there is at most one at a time
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final SimplePluginScheduler scheduler;
+    private final MindustryPlugin plugin;
+    private final int maxSize;
+    private final long maxDelay;
+    private final Consumer<List<T>> consumer;
+
+    SimplePluginTaskBatcher(
+            final SimplePluginScheduler scheduler,
+            final MindustryPlugin plugin,
+            final int maxSize,
+            final long maxDelay,
+            final MindustryTimeUnit unit,
+            final Consumer<List<T>> consumer) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The max size of a batch must be positive, got " + maxSize);
+        }
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("The max delay of a batch must be positive, got " + maxDelay);
+        }
+        this.scheduler = scheduler;
+        this.plugin = plugin;
+        this.maxSize = maxSize;
+        this.maxDelay = MindustryTimeUnit.TICKS.convert(maxDelay, unit);
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void add(final T item) {
+        if (this.closed.get()) {
+            throw new IllegalStateException("The batcher is closed.");
+        }
+        this.items.add(item);
+        if (this.size.incrementAndGet() >= this.maxSize) {
+            this.schedule();
+        } else if (!this.armed.get() && this.armed.compareAndSet(false, true)) {
+            // The oldest buffered item must not wait longer than the max delay
+            this.scheduler
+                    .scheduleAsync(this.plugin)
+                    .clock(TaskClock.REAL_TIME)
+                    .delay(this.maxDelay, MindustryTimeUnit.TICKS)
+                    .execute(() -> {
+                        this.armed.set(false);
+                        this.flush();
+                    });
+        }
+        // The batcher may have been closed after the check, the item must not be left behind
+        if (this.closed.get()) {
+            this.flush();
+        }
+    }
+
+    @Override
+    public void flush() {
+        this.requested.set(true);
+        this.schedule();
+    }
+
+    @Override
+    public int size() {
+        return Math.max(this.size.get(), 0);
+    }
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.scheduler.unregister(this);
+            this.flush();
+        }
+    }
+
+    @Override
+    public MindustryPlugin getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Closes this batcher and consumes the remaining items in the calling thread. It must only be called once the
+     * async executor has terminated, since a pending drain may have been cancelled without releasing its flag.
+     */
+    void closeNow() {
+        this.closed.set(true);
+        this.draining.set(true);
+        this.consume(true);
+    }
+
+    private void schedule() {
+        if (this.draining.compareAndSet(false, true)) {
+            this.scheduler.scheduleAsync(this.plugin).execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            try {
+                this.consume(this.requested.getAndSet(false));
+            } finally {
+                this.draining.set(false);
+            }
+            // A flush may have been requested after the last check, while this drain still held the flag
+            final var pending = this.requested.get() || this.size.get() >= this.maxSize;
+            if (!pending || !this.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Consumes the full batches, and the last undersized one if requested. The consumer is called without any lock,
+     * the draining flag guarantees the batches are consumed one at a time.
+     */
+    private void consume(final boolean all) {
+        while (this.size.get() >= this.maxSize || (all && this.size.get() > 0)) {
+            final List<T> batch = new ArrayList<>(Math.min(this.size(), this.maxSize));
+            T item;
+            while (batch.size() < this.maxSize && (item = this.items.poll()) != null) {
+                batch.add(item);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            this.size.addAndGet(-batch.size());
+            this.consumer.accept(batch);
+        }
+    }
+}
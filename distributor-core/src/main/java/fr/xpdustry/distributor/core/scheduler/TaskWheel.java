@@ -0,0 +1,130 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A hashed timing wheel holding the repeating tasks of a {@link SimplePluginScheduler}.
+ * <p>
+ * The tasks are linked together through their own {@link SimplePluginTask#next} field, so rescheduling a task never
+ * allocates. The wheel itself is only accessed by the thread calling {@link #advance(long)}, the other threads hand
+ * the tasks over with {@link #submit(SimplePluginTask)}, a lock-free stack drained at each advance.
+ */
+final class TaskWheel {
+
+    private static final int SLOT_COUNT = 256;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+
+    private final @Nullable SimplePluginTask<?>[] slots = new SimplePluginTask<?>[SLOT_COUNT];
+    private final AtomicReference<@Nullable SimplePluginTask<?>> pending = new AtomicReference<>();
+    private final Consumer<SimplePluginTask<?>> dispatcher;
+    private long cursor;
+    private int size = 0;
+
+    TaskWheel(final long start, final Consumer<SimplePluginTask<?>> dispatcher) {
+        this.cursor = start;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Hands over a task to the wheel, it will be inserted at the next {@link #advance(long)}. Can be called from any
+     * thread, but a task must not be submitted again before being dispatched.
+     */
+    void submit(final SimplePluginTask<?> task) {
+        @Nullable SimplePluginTask<?> head;
+        do {
+            head = this.pending.get();
+            task.next = head;
+        } while (!this.pending.compareAndSet(head, task));
+    }
+
+    /**
+     * Dispatches the tasks which execution time is strictly before {@code now}.
+     */
+    void advance(final long now) {
+        this.drain();
+        if (now - this.cursor >= SLOT_COUNT) {
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                this.advanceSlot(i, now);
+            }
+        } else {
+            for (long tick = this.cursor; tick < now; tick++) {
+                this.advanceSlot((int) (tick & SLOT_MASK), now);
+            }
+        }
+        this.cursor = Math.max(this.cursor, now);
+        // Tasks executed inline by the sync executor may already be back, and late
+        this.drain();
+    }
+
+    /**
+     * Returns the number of tasks in the wheel, excluding the ones not drained yet.
+     */
+    int size() {
+        return this.size;
+    }
+
+    private void drain() {
+        var task = this.pending.getAndSet(null);
+        while (task != null) {
+            final var next = task.next;
+            task.next = null;
+            if (task.isCancelled()) {
+                task = next;
+                continue;
+            }
+            if (task.getNextExecutionTime() < this.cursor) {
+                this.dispatcher.accept(task);
+            } else {
+                final var slot = (int) (task.getNextExecutionTime() & SLOT_MASK);
+                task.next = this.slots[slot];
+                this.slots[slot] = task;
+                this.size++;
+            }
+            task = next;
+        }
+    }
+
+    private void advanceSlot(final int slot, final long now) {
+        @Nullable SimplePluginTask<?> previous = null;
+        var task = this.slots[slot];
+        while (task != null) {
+            final var next = task.next;
+            final var cancelled = task.isCancelled();
+            if (cancelled || task.getNextExecutionTime() < now) {
+                if (previous == null) {
+                    this.slots[slot] = next;
+                } else {
+                    previous.next = next;
+                }
+                task.next = null;
+                this.size--;
+                if (!cancelled) {
+                    this.dispatcher.accept(task);
+                }
+            } else {
+                previous = task;
+            }
+            task = next;
+        }
+    }
+}
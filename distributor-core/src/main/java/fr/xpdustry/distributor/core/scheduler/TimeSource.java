@@ -40,5 +40,13 @@ public interface TimeSource {
         return () -> System.currentTimeMillis() / 16L;
     }
 
+    /**
+     * Returns a {@code PluginTimeSource} using {@link System#nanoTime()} to provide the current time. Unlike
+     * {@link #standard()}, it is monotonic and unaffected by the changes of the system clock.
+     */
+    static TimeSource monotonic() {
+        return () -> Math.floorDiv(System.nanoTime(), 1_000_000_000L / 60L);
+    }
+
     long getCurrentTicks();
 }
@@ -30,7 +30,6 @@ import fr.xpdustry.distributor.core.database.ConnectionFactory;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import mindustry.gen.Groups;
@@ -66,7 +65,8 @@ public final class SQLPlayerValidator implements PlayerValidator {
 
     @Override
     public boolean contains(final String uuid) {
-        return this.factory.withFunction(con -> !this.findValidation(con, uuid).isEmpty());
+        final var decoded = MUUID.decodeUuid(uuid);
+        return this.factory.withFunction(con -> !this.findValidation(con, uuid, decoded).isEmpty());
     }
 
     @Override
@@ -76,22 +76,23 @@ public final class SQLPlayerValidator implements PlayerValidator {
 
     @Override
     public void validate(final MUUID muuid) {
-        this.factory.withConsumer(con -> this.saveValidation(con, new Validation(muuid, true)));
+        this.factory.withConsumer(con -> this.saveValidation(con, muuid.getDecodedUuid(), hash(muuid), true));
         this.notifyChangeForOnlinePlayer(muuid, Type.VALIDATED);
     }
 
     @Override
     public void invalidate(final MUUID muuid) {
-        this.factory.withConsumer(con -> this.saveValidation(con, new Validation(muuid, false)));
+        this.factory.withConsumer(con -> this.saveValidation(con, muuid.getDecodedUuid(), hash(muuid), false));
         this.notifyChangeForOnlinePlayer(muuid, Type.INVALIDATED);
     }
 
     @Override
     public void invalidate(final String uuid) {
+        final var decoded = MUUID.decodeUuid(uuid);
         this.factory.withConsumer(con -> {
-            for (final var validation : this.findValidation(con, uuid)) {
+            for (final var validation : this.findValidation(con, uuid, decoded)) {
                 if (validation.valid) {
-                    this.saveValidation(con, new Validation(validation.uuid, validation.hash, false));
+                    this.saveValidation(con, decoded, validation.hash, false);
                 }
             }
         });
@@ -110,10 +111,10 @@ public final class SQLPlayerValidator implements PlayerValidator {
 
     @Override
     public void remove(final String uuid) {
-        MUUID.checkUuid(uuid);
+        final var decoded = MUUID.decodeUuid(uuid);
         this.factory.withConsumer(con -> {
             try (final var statement = con.prepareStatement("DELETE FROM muuid_validation WHERE uuid = ?")) {
-                statement.setBytes(1, Base64.getDecoder().decode(uuid));
+                statement.setBytes(1, decoded);
                 statement.executeUpdate();
             }
         });
@@ -157,10 +158,10 @@ public final class SQLPlayerValidator implements PlayerValidator {
         }
     }
 
-    private List<Validation> findValidation(final Connection con, final String uuid) throws SQLException {
-        MUUID.checkUuid(uuid);
+    private List<Validation> findValidation(final Connection con, final String uuid, final byte[] decoded)
+            throws SQLException {
         try (final var statement = con.prepareStatement("SELECT hash, valid FROM muuid_validation WHERE uuid = ?")) {
-            statement.setBytes(1, Base64.getDecoder().decode(uuid));
+            statement.setBytes(1, decoded);
             try (final var result = statement.executeQuery()) {
                 final var list = new ArrayList<Validation>();
                 while (result.next()) {
@@ -171,30 +172,32 @@ public final class SQLPlayerValidator implements PlayerValidator {
         }
     }
 
-    private void saveValidation(final Connection con, final Validation validation) throws SQLException {
-        if (this.contains(con, validation)) {
+    // Takes the decoded UUID, so it is decoded once per operation
+    private void saveValidation(final Connection con, final byte[] uuid, final byte[] hash, final boolean valid)
+            throws SQLException {
+        if (this.contains(con, uuid, hash)) {
             try (final var statement =
                     con.prepareStatement("UPDATE muuid_validation SET valid = ? WHERE uuid = ? AND hash = ?")) {
-                statement.setBoolean(1, validation.valid());
-                statement.setBytes(2, validation.decodedUuid());
-                statement.setBytes(3, validation.hash);
+                statement.setBoolean(1, valid);
+                statement.setBytes(2, uuid);
+                statement.setBytes(3, hash);
                 statement.executeUpdate();
             }
         } else {
             try (final var statement =
                     con.prepareStatement("INSERT INTO muuid_validation (uuid, hash, valid) VALUES (?, ?, ?)")) {
-                statement.setBytes(1, validation.decodedUuid());
-                statement.setBytes(2, validation.hash);
-                statement.setBoolean(3, validation.valid());
+                statement.setBytes(1, uuid);
+                statement.setBytes(2, hash);
+                statement.setBoolean(3, valid);
                 statement.executeUpdate();
             }
         }
     }
 
-    private boolean contains(final Connection con, final Validation validation) throws SQLException {
+    private boolean contains(final Connection con, final byte[] uuid, final byte[] hash) throws SQLException {
         try (final var statement = con.prepareStatement("SELECT 1 FROM muuid_validation WHERE uuid = ? AND hash = ?")) {
-            statement.setBytes(1, Base64.getDecoder().decode(validation.uuid));
-            statement.setBytes(2, validation.hash);
+            statement.setBytes(1, uuid);
+            statement.setBytes(2, hash);
             try (final var result = statement.executeQuery()) {
                 return result.next();
             }
@@ -225,7 +228,7 @@ public final class SQLPlayerValidator implements PlayerValidator {
         }
 
         public byte[] decodedUuid() {
-            return Base64.getDecoder().decode(this.uuid);
+            return MUUID.decodeUuid(this.uuid);
         }
     }
 }
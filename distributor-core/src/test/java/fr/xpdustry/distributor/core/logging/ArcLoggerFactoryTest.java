@@ -0,0 +1,101 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.logging;
+
+import arc.util.Log;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ArcLoggerFactoryTest {
+
+    @Test
+    void test_class_logger() {
+        final var factory = new ArcLoggerFactory();
+        final var logger = factory.getLogger(ArcLoggerFactoryTest.class.getName());
+        assertThat(logger.getName()).isEqualTo(ArcLoggerFactoryTest.class.getName());
+        assertThat(factory.getLogger(ArcLoggerFactoryTest.class.getName())).isSameAs(logger);
+    }
+
+    @Test
+    void test_named_logger() {
+        final var factory = new ArcLoggerFactory();
+        final var logger = factory.getLogger("custom");
+        assertThat(logger.getName()).isEqualTo("custom");
+        assertThat(factory.getLogger("custom")).isSameAs(logger);
+    }
+
+    @Test
+    void test_levels() {
+        final var factory = new ArcLoggerFactory();
+        final var logger = (ArcLogger) factory.getLogger("com.example.Logger");
+
+        factory.setLevel("com.example", Level.DEBUG);
+        assertThat(logger.getLevel()).isEqualTo(Level.DEBUG);
+        assertThat(logger.isDebugEnabled()).isTrue();
+        assertThat(logger.isTraceEnabled()).isFalse();
+
+        factory.setLevel("com.example.Logger", Level.ERROR);
+        assertThat(logger.getLevel()).isEqualTo(Level.ERROR);
+        assertThat(logger.isWarnEnabled()).isFalse();
+
+        final var other = (ArcLogger) factory.getLogger("com.example.Other");
+        assertThat(other.getLevel()).isEqualTo(Level.DEBUG);
+
+        factory.setLevel("com.example.Logger", null);
+        factory.setLevel("com.example", null);
+        assertThat(logger.getLevel()).isNull();
+        assertThat(other.getLevel()).isNull();
+        assertThat(factory.getLevels()).isEmpty();
+    }
+
+    @Test
+    void test_flush_suppressed_messages() throws InterruptedException {
+        final var factory = new ArcLoggerFactory();
+        final var logger = factory.getLogger("com.example.Limited");
+        final var messages = new ArrayList<String>();
+        final var previous = Log.logger;
+        Log.logger = (level, text) -> messages.add(text);
+        ArcLogger.setRateLimit(2);
+        try {
+            for (int i = 0; i < 5; i++) {
+                logger.info("Message {}", i);
+            }
+            assertThat(messages).hasSize(2);
+
+            factory.flushSuppressedMessages();
+            assertThat(messages).hasSize(2);
+
+            Thread.sleep(1100L);
+            factory.flushSuppressedMessages();
+            assertThat(messages).hasSize(3);
+            assertThat(messages.get(2)).contains("Suppressed").contains("3").contains("Message");
+
+            // Nothing left to report
+            Thread.sleep(1100L);
+            factory.flushSuppressedMessages();
+            assertThat(messages).hasSize(3);
+        } finally {
+            ArcLogger.setRateLimit(0);
+            Log.logger = previous;
+        }
+    }
+}
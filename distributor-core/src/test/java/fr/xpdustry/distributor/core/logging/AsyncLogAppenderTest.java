@@ -0,0 +1,224 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.logging;
+
+import arc.util.Log;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class AsyncLogAppenderTest {
+
+    private static final String BLOCKING_MESSAGE = "blocking";
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+    private Log.LogHandler previousLogger;
+    private Log.LogLevel previousLevel;
+
+    @BeforeEach
+    void setup() {
+        this.previousLogger = Log.logger;
+        this.previousLevel = Log.level;
+        Log.level = Log.LogLevel.debug;
+        Log.logger = (level, text) -> {
+            if (text.equals(BLOCKING_MESSAGE)) {
+                this.entered.countDown();
+                try {
+                    this.released.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            this.written.add(text);
+        };
+    }
+
+    @AfterEach
+    void teardown() {
+        this.released.countDown();
+        Log.logger = this.previousLogger;
+        Log.level = this.previousLevel;
+    }
+
+    @Test
+    void test_flush_on_close() {
+        final var appender = new AsyncLogAppender(16, AsyncLogAppender.OverflowPolicy.BLOCK);
+        final var expected = new ArrayList<String>();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(appender.append(info("message " + i))).isTrue();
+            expected.add("message " + i);
+        }
+        appender.close();
+        assertThat(this.written).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void test_append_after_close() {
+        final var appender = new AsyncLogAppender(16, AsyncLogAppender.OverflowPolicy.BLOCK);
+        appender.close();
+        assertThat(appender.append(info("message"))).isFalse();
+        assertThat(this.written).isEmpty();
+    }
+
+    @Test
+    void test_drop_policy() throws InterruptedException {
+        final var appender = new AsyncLogAppender(4, AsyncLogAppender.OverflowPolicy.DROP);
+        this.blockAppender(appender);
+        for (int i = 0; i < 4; i++) {
+            assertThat(appender.append(info("message " + i))).isTrue();
+        }
+        assertThat(appender.append(info("dropped 1"))).isTrue();
+        assertThat(appender.append(debug("dropped 2"))).isTrue();
+
+        this.released.countDown();
+        appender.close();
+        assertThat(this.written)
+                .containsExactly(
+                        BLOCKING_MESSAGE,
+                        "message 0",
+                        "message 1",
+                        "message 2",
+                        "message 3",
+                        "Dropped 2 log messages since the log buffer was full.");
+    }
+
+    @Test
+    void test_discard_debug_policy() throws InterruptedException {
+        final var appender = new AsyncLogAppender(4, AsyncLogAppender.OverflowPolicy.DISCARD_DEBUG);
+        this.blockAppender(appender);
+        for (int i = 0; i < 4; i++) {
+            assertThat(appender.append(info("message " + i))).isTrue();
+        }
+        assertThat(appender.append(debug("dropped"))).isTrue();
+
+        final var appended = this.appendInBackground(appender, info("message 4"));
+        assertThat(appended.await(100L, TimeUnit.MILLISECONDS)).isFalse();
+
+        this.released.countDown();
+        assertThat(appended.await(5L, TimeUnit.SECONDS)).isTrue();
+        appender.close();
+        // The blocked message may be offered before the warning about the dropped ones is written
+        assertThat(this.written)
+                .containsExactlyInAnyOrder(
+                        BLOCKING_MESSAGE,
+                        "message 0",
+                        "message 1",
+                        "message 2",
+                        "message 3",
+                        "message 4",
+                        "Dropped 1 log messages since the log buffer was full.");
+    }
+
+    @Test
+    void test_block_policy() throws InterruptedException {
+        final var appender = new AsyncLogAppender(4, AsyncLogAppender.OverflowPolicy.BLOCK);
+        this.blockAppender(appender);
+        for (int i = 0; i < 4; i++) {
+            assertThat(appender.append(info("message " + i))).isTrue();
+        }
+
+        final var appended = this.appendInBackground(appender, debug("message 4"));
+        assertThat(appended.await(100L, TimeUnit.MILLISECONDS)).isFalse();
+
+        this.released.countDown();
+        assertThat(appended.await(5L, TimeUnit.SECONDS)).isTrue();
+        appender.close();
+        assertThat(this.written)
+                .containsExactly(BLOCKING_MESSAGE, "message 0", "message 1", "message 2", "message 3", "message 4");
+    }
+
+    @Test
+    void test_close_while_appending() throws InterruptedException {
+        final var appender = new AsyncLogAppender(64, AsyncLogAppender.OverflowPolicy.BLOCK);
+        final var running = new AtomicBoolean(true);
+        final var producers = new ArrayList<Thread>();
+        final var rejected = Collections.synchronizedList(new ArrayList<String>());
+        for (int i = 0; i < 4; i++) {
+            final var id = i;
+            final var producer = new Thread(() -> {
+                for (int j = 0; running.get(); j++) {
+                    final var entry = info("producer " + id + " message " + j);
+                    if (!appender.append(entry)) {
+                        // Written by the caller, like ArcLogger does
+                        rejected.add(entry.message());
+                        running.set(false);
+                    }
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+
+        Thread.sleep(50L);
+        appender.close();
+        running.set(false);
+        for (final var producer : producers) {
+            producer.join();
+        }
+
+        // Every message is either written by the appender or given back to its producer
+        final var appended = new ArrayList<>(this.written);
+        assertThat(appended).doesNotContainAnyElementsOf(rejected);
+        for (int i = 0; i < 4; i++) {
+            final var prefix = "producer " + i + " message ";
+            final var indexes = appended.stream()
+                    .filter(message -> message.startsWith(prefix))
+                    .mapToInt(message -> Integer.parseInt(message.substring(prefix.length())))
+                    .toArray();
+            for (int j = 0; j < indexes.length; j++) {
+                assertThat(indexes[j]).isEqualTo(j);
+            }
+        }
+    }
+
+    private void blockAppender(final AsyncLogAppender appender) throws InterruptedException {
+        assertThat(appender.append(info(BLOCKING_MESSAGE))).isTrue();
+        assertThat(this.entered.await(5L, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private CountDownLatch appendInBackground(final AsyncLogAppender appender, final LogEntry entry) {
+        final var appended = new CountDownLatch(1);
+        final var thread = new Thread(() -> {
+            if (appender.append(entry)) {
+                appended.countDown();
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return appended;
+    }
+
+    private static LogEntry info(final String message) {
+        return new LogEntry(Log.LogLevel.info, message, null);
+    }
+
+    private static LogEntry debug(final String message) {
+        return new LogEntry(Log.LogLevel.debug, message, null);
+    }
+}
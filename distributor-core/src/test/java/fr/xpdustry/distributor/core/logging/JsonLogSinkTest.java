@@ -0,0 +1,153 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.logging;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.event.Level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class JsonLogSinkTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2023-10-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void test_append() throws IOException {
+        final var sink = new JsonLogSink(this.directory, "test", Long.MAX_VALUE, 10, CLOCK);
+        sink.append(Level.INFO, "logger", "plugin", "Hello \"{}\"!", new Object[] {"world\n"}, null);
+        sink.append(Level.WARN, "logger", null, "Nothing", null, null);
+        sink.close();
+
+        assertThat(Files.readAllLines(sink.getFile()))
+                .containsExactly(
+                        "{\"timestamp\":\"2023-10-01T12:00:00Z\",\"level\":\"INFO\",\"logger\":\"logger\","
+                                + "\"plugin\":\"plugin\",\"thread\":\"" + Thread.currentThread().getName() + "\","
+                                + "\"message\":\"Hello \\\"world\\n\\\"!\",\"arguments\":[\"world\\n\"],"
+                                + "\"throwable\":null}",
+                        "{\"timestamp\":\"2023-10-01T12:00:00Z\",\"level\":\"WARN\",\"logger\":\"logger\","
+                                + "\"plugin\":null,\"thread\":\"" + Thread.currentThread().getName() + "\","
+                                + "\"message\":\"Nothing\",\"arguments\":[],\"throwable\":null}");
+    }
+
+    @Test
+    void test_append_failing_argument() throws IOException {
+        final var sink = new JsonLogSink(this.directory, "test", Long.MAX_VALUE, 10, CLOCK);
+        final var argument = new Object() {
+            @Override
+            public String toString() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        sink.append(Level.INFO, "logger", null, "Value {}", new Object[] {argument}, null);
+        sink.close();
+
+        assertThat(Files.readAllLines(sink.getFile()))
+                .singleElement()
+                .asString()
+                .contains("\"arguments\":[\"[FAILED toString()]\"]");
+    }
+
+    @Test
+    void test_rotate_by_size() throws IOException {
+        final var sink = new JsonLogSink(this.directory, "test", 100L, 10, CLOCK);
+        for (int i = 0; i < 5; i++) {
+            sink.append(Level.INFO, "logger", null, "Message {}", new Object[] {i}, null);
+        }
+        sink.close();
+
+        assertThat(Files.readAllLines(sink.getFile())).hasSize(1);
+        assertThat(this.directory.resolve("test-2023-10-01-1.ndjson.gz")).exists();
+        assertThat(this.directory.resolve("test-2023-10-01-4.ndjson.gz")).exists();
+        assertThat(this.directory.resolve("test-2023-10-01-1.ndjson")).doesNotExist();
+    }
+
+    @Test
+    void test_rotate_by_day() throws IOException {
+        final var clock = new MutableClock(Instant.parse("2023-10-01T12:00:00Z"));
+        final var sink = new JsonLogSink(this.directory, "test", Long.MAX_VALUE, 2, clock);
+        for (int i = 0; i < 4; i++) {
+            sink.append(Level.INFO, "logger", null, "Message {}", new Object[] {i}, null);
+            sink.flush();
+            clock.instant = clock.instant.plus(Duration.ofDays(1L));
+        }
+        sink.close();
+
+        assertThat(Files.readAllLines(sink.getFile())).singleElement().asString().contains("Message 3");
+        // Only the 2 most recent archives are kept
+        assertThat(this.directory.resolve("test-2023-10-01-1.ndjson.gz")).doesNotExist();
+        assertThat(this.directory.resolve("test-2023-10-02-1.ndjson.gz")).exists();
+        assertThat(this.directory.resolve("test-2023-10-03-1.ndjson.gz")).exists();
+    }
+
+    @Test
+    void test_rotate_after_failure() throws IOException {
+        final var sink = new JsonLogSink(this.directory, "test", 100L, 10, CLOCK);
+        sink.append(Level.INFO, "logger", null, "Message {}", new Object[] {0}, null);
+        sink.append(Level.INFO, "logger", null, "Message {}", new Object[] {1}, null);
+        sink.flush();
+
+        // The rotation fails since the file to move is gone, the sink keeps writing in a new file
+        Files.delete(sink.getFile());
+        for (int i = 2; i < 5; i++) {
+            sink.append(Level.INFO, "logger", null, "Message {}", new Object[] {i}, null);
+        }
+        sink.close();
+
+        final var lines = Files.readAllLines(sink.getFile());
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("Message 2");
+        assertThat(lines.get(2)).contains("Message 4");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
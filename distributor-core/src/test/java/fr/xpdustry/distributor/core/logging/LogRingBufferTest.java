@@ -0,0 +1,94 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.logging;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class LogRingBufferTest {
+
+    @Test
+    void test_illegal_capacity() {
+        assertThatThrownBy(() -> new LogRingBuffer<>(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void test_offer_and_poll() {
+        final var buffer = new LogRingBuffer<Integer>(4);
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.poll()).isNull();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+
+        final var polled = new ArrayList<Integer>();
+        Integer element;
+        while ((element = buffer.poll()) != null) {
+            polled.add(element);
+        }
+        assertThat(polled).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void test_concurrent_producers() throws InterruptedException {
+        final var buffer = new LogRingBuffer<Integer>(64);
+        final var producers = 4;
+        final var count = 10_000;
+        final var latch = new CountDownLatch(producers);
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final var offset = p * count;
+            final var thread = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                latch.countDown();
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        final var polled = new HashSet<Integer>();
+        while (latch.getCount() != 0 || !buffer.isEmpty()) {
+            final var element = buffer.poll();
+            if (element != null) {
+                polled.add(element);
+            }
+        }
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        assertThat(polled).hasSize(producers * count);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public final class HistogramTest {
+
+    @Test
+    void test_empty() {
+        final var snapshot = new Histogram().snapshot();
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.mean()).isZero();
+        assertThat(snapshot.percentile(0.99D)).isZero();
+    }
+
+    @Test
+    void test_record() {
+        final var histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-10L);
+
+        final var snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(101L);
+        assertThat(snapshot.sum()).isEqualTo(5050L);
+        assertThat(snapshot.max()).isEqualTo(100L);
+        assertThat(snapshot.mean()).isCloseTo(50D, within(0.01D));
+    }
+
+    @Test
+    void test_percentile_upper_bound() {
+        final var histogram = new Histogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(3L);
+        }
+        histogram.record(1000L);
+
+        final var snapshot = histogram.snapshot();
+        assertThat(snapshot.percentile(0.5D)).isEqualTo(3L);
+        assertThat(snapshot.percentile(0.99D)).isEqualTo(3L);
+        assertThat(snapshot.percentile(1D)).isEqualTo(1000L);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class SchedulerLoadGeneratorTest {
+
+    @Test
+    void test_virtual_time() {
+        final var time = new VirtualTimeSource();
+        final var executor = new DeterministicExecutor();
+        final var scheduler = new SimplePluginScheduler(time, time, executor, executor);
+        final var plugin = new SimulatedPlugin("test");
+        final var ticks = new ArrayList<Long>();
+
+        scheduler
+                .scheduleSync(plugin)
+                .delay(10L, MindustryTimeUnit.TICKS)
+                .repeatAtFixedRate(5L, MindustryTimeUnit.TICKS)
+                .execute(() -> ticks.add(time.getCurrentTicks()));
+
+        for (int i = 0; i < 30; i++) {
+            scheduler.onPluginUpdate();
+            executor.runAll();
+            time.advance(1L);
+        }
+        scheduler.onPluginExit();
+
+        assertThat(ticks).containsExactly(11L, 16L, 21L, 26L);
+    }
+
+    @Test
+    void test_report() {
+        final var report = SchedulerLoadGenerator.builder()
+                .plugins(5)
+                .repeatingTasksPerPlugin(5)
+                .tasksPerTick(10)
+                .ticks(600L)
+                .build()
+                .run();
+
+        assertThat(report.ticks()).isEqualTo(600L);
+        assertThat(report.scheduled()).isEqualTo(5L * 5L + 10L * 600L);
+        assertThat(report.executed()).isGreaterThan(10L * 600L - 60L * 10L);
+        assertThat(report.tickTimes().count()).isEqualTo(600L);
+        assertThat(report.metrics().tasks()).isNotEmpty();
+    }
+
+    @Test
+    void test_deterministic() {
+        final var generator = SchedulerLoadGenerator.builder().seed(42L).build();
+        final var report1 = generator.run();
+        final var report2 = generator.run();
+        assertThat(report1.scheduled()).isEqualTo(report2.scheduled());
+        assertThat(report1.executed()).isEqualTo(report2.executed());
+    }
+}
@@ -22,20 +22,27 @@ import arc.Core;
 import arc.mock.MockApplication;
 import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
 import fr.xpdustry.distributor.api.scheduler.Cancellable;
+import fr.xpdustry.distributor.api.scheduler.CatchUpPolicy;
 import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
+import fr.xpdustry.distributor.api.scheduler.TaskClock;
 import fr.xpdustry.distributor.api.scheduler.TaskHandler;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
@@ -95,6 +102,17 @@ public final class SimplePluginSchedulerTest {
                 .startsWith(SimplePluginScheduler.DISTRIBUTOR_WORKER_BASE_NAME));
     }
 
+    @Test
+    void test_async_executor() {
+        final var executor = this.scheduler.getAsyncExecutor();
+        assertThat(executor).isNotInstanceOf(ExecutorService.class);
+
+        final var future = new CompletableFuture<Thread>();
+        executor.execute(() -> future.complete(Thread.currentThread()));
+        assertThat(future).succeedsWithin(PRECISION).matches(thread -> thread.getName()
+                .startsWith(SimplePluginScheduler.DISTRIBUTOR_WORKER_BASE_NAME));
+    }
+
     @Test
     void test_delay() {
         final var future = new CompletableFuture<Long>();
@@ -135,6 +153,110 @@ public final class SimplePluginSchedulerTest {
         assertThat(longs.get(2) - longs.get(1)).isCloseTo(60L, within(PRECISION_TICKS));
     }
 
+    @Test
+    void test_fixed_rate() {
+        final var counter = new CountDownLatch(3);
+        final var longs = new ArrayList<Long>();
+        final var future = this.scheduler
+                .scheduleSync(this.plugin)
+                .repeatAtFixedRate(500L, MindustryTimeUnit.MILLISECONDS, CatchUpPolicy.RUN_ALL)
+                .execute(() -> {
+                    longs.add(this.source.getCurrentTicks());
+                    try {
+                        Thread.sleep(250L);
+                    } catch (final InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    counter.countDown();
+                });
+
+        // Unlike a fixed delay, the execution time does not shift the cadence of the task
+        assertTimeoutPreemptively(Duration.ofSeconds(3L), () -> {
+            counter.await();
+            future.cancel(false);
+        });
+
+        assertThat(longs.get(1) - longs.get(0)).isCloseTo(30L, within(PRECISION_TICKS));
+        assertThat(longs.get(2) - longs.get(1)).isCloseTo(30L, within(PRECISION_TICKS));
+    }
+
+    @Test
+    void test_fixed_rate_skip() {
+        final var counter = new CountDownLatch(3);
+        final var longs = new ArrayList<Long>();
+        final var future = this.scheduler
+                .scheduleSync(this.plugin)
+                .repeatAtFixedRate(250L, MindustryTimeUnit.MILLISECONDS, CatchUpPolicy.SKIP)
+                .execute(() -> {
+                    longs.add(this.source.getCurrentTicks());
+                    try {
+                        Thread.sleep(400L);
+                    } catch (final InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    counter.countDown();
+                });
+
+        // The executions overlapping with the long running one are skipped
+        assertTimeoutPreemptively(Duration.ofSeconds(3L), () -> {
+            counter.await();
+            future.cancel(false);
+        });
+
+        assertThat(longs.get(1) - longs.get(0)).isCloseTo(30L, within(PRECISION_TICKS));
+        assertThat(longs.get(2) - longs.get(1)).isCloseTo(30L, within(PRECISION_TICKS));
+    }
+
+    @Test
+    void test_fixed_rate_every_tick() {
+        assertThat(this.runAtFixedRate(1L, CatchUpPolicy.SKIP, 1L, 2L, 3L, 4L, 5L))
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(this.runAtFixedRate(1L, CatchUpPolicy.COALESCE, 1L, 2L, 3L, 4L, 5L))
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void test_fixed_rate_skip_ticks() {
+        // Scheduled at 0, 3, 6, 9, 12..., each run is dispatched at the tick after its scheduled time
+        assertThat(this.runAtFixedRate(3L, CatchUpPolicy.SKIP, 1L, 2L, 3L, 4L, 5L, 6L, 7L))
+                .containsExactly(1L, 4L, 7L);
+        // The runs at 9 and 12 are missed by the jump and skipped, the next one stays aligned on 15
+        assertThat(this.runAtFixedRate(
+                        3L, CatchUpPolicy.SKIP, 1L, 2L, 3L, 4L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L))
+                .containsExactly(1L, 4L, 12L, 16L, 19L);
+    }
+
+    @Test
+    void test_fixed_rate_coalesce_ticks() {
+        assertThat(this.runAtFixedRate(3L, CatchUpPolicy.COALESCE, 1L, 2L, 3L, 4L, 5L, 6L, 7L))
+                .containsExactly(1L, 4L, 7L);
+        // The runs at 9 and 12 are missed by the jump and coalesced in a single run, the next one stays on 15
+        assertThat(this.runAtFixedRate(
+                        3L, CatchUpPolicy.COALESCE, 1L, 2L, 3L, 4L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L))
+                .containsExactly(1L, 4L, 12L, 13L, 16L, 19L);
+    }
+
+    @Test
+    void test_real_time_clock() {
+        final var frozen = new SimplePluginScheduler(() -> 0L, this.source, Runnable::run, 1);
+        final var game = frozen.scheduleSync(this.plugin).execute(() -> {});
+        final var real = frozen.scheduleSync(this.plugin)
+                .clock(TaskClock.REAL_TIME)
+                .delay(250L, MindustryTimeUnit.MILLISECONDS)
+                .execute(() -> {});
+
+        // The game time is frozen, only the real time task should be executed
+        assertTimeoutPreemptively(Duration.ofSeconds(1L), () -> {
+            while (!real.isDone()) {
+                Thread.sleep(1000L / 60);
+                frozen.onPluginUpdate();
+            }
+        });
+
+        assertThat(game).isNotDone();
+        frozen.onPluginExit();
+    }
+
     @Test
     void test_cancelling() {
         final var future = new CompletableFuture<Long>();
@@ -212,6 +334,145 @@ public final class SimplePluginSchedulerTest {
                 .isEqualTo("run async");
     }
 
+    @Test
+    void test_pipeline() {
+        final var steps = new ArrayList<TestRecipeStep<String>>();
+        final var task = this.scheduler
+                .pipeline(this.plugin, "initial")
+                .thenApply(value -> {
+                    final var newValue = value + " apply";
+                    steps.add(new TestRecipeStep<>(newValue));
+                    return newValue;
+                })
+                .thenApplyAsync(value -> {
+                    final var newValue = value + " apply async";
+                    steps.add(new TestRecipeStep<>(newValue));
+                    return newValue;
+                })
+                .thenAcceptAsync(value -> steps.add(new TestRecipeStep<>(value + " accept async")))
+                .execute();
+
+        assertThat(task).succeedsWithin(PRECISION).isEqualTo("initial apply apply async");
+        assertThat(steps).size().isEqualTo(3);
+        assertThat(steps.get(0)).matches(TestRecipeStep::isSyncThread);
+        assertThat(steps.get(1)).matches(TestRecipeStep::isAsyncThread);
+        // Adjacent async steps are fused, so they run back-to-back on the same thread
+        assertThat(steps.get(2).thread).isEqualTo(steps.get(1).thread);
+    }
+
+    @Test
+    void test_pipeline_fork() {
+        final var task = this.scheduler
+                .pipeline(this.plugin, 10)
+                .<Integer>thenForkAsync(List.of(value -> value + 1, value -> value * 2, value -> value - 3))
+                .thenApply(values -> values.stream().mapToInt(Integer::intValue).sum())
+                .execute();
+
+        assertThat(task).succeedsWithin(PRECISION).isEqualTo(11 + 20 + 7);
+    }
+
+    @Test
+    void test_pipeline_error() {
+        final var executed = new AtomicInteger();
+        final var task = this.scheduler
+                .pipeline(this.plugin, "initial")
+                .thenApplyAsync(value -> {
+                    throw new IllegalStateException("error");
+                })
+                .thenRun(executed::incrementAndGet)
+                .execute();
+
+        assertThat(task)
+                .failsWithin(PRECISION)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(executed).hasValue(0);
+    }
+
+    @Test
+    void test_pipeline_cancel() {
+        final var started = new CountDownLatch(1);
+        final var interrupted = new CompletableFuture<Boolean>();
+        final var executed = new AtomicInteger();
+        final var task = this.scheduler
+                .pipeline(this.plugin, "initial")
+                .thenRunAsync(() -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(5000L);
+                        interrupted.complete(false);
+                    } catch (final InterruptedException e) {
+                        interrupted.complete(true);
+                    }
+                })
+                .thenRunAsync(executed::incrementAndGet)
+                .thenRun(executed::incrementAndGet)
+                .execute();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1L), () -> started.await());
+        assertThat(task.cancel(true)).isTrue();
+        assertThat(interrupted).succeedsWithin(PRECISION).isEqualTo(true);
+        assertThat(executed).hasValue(0);
+    }
+
+    @Test
+    void test_batcher_max_size() {
+        final var batches = new CopyOnWriteArrayList<List<Integer>>();
+        final var batcher = this.scheduler.<Integer>batcher(this.plugin, 3, 1L, MindustryTimeUnit.HOURS, batches::add);
+        for (int i = 0; i < 6; i++) {
+            batcher.add(i);
+        }
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1L), () -> {
+            while (batches.stream().mapToInt(List::size).sum() < 6) {
+                Thread.sleep(10L);
+            }
+        });
+
+        assertThat(batches).allMatch(batch -> batch.size() <= 3);
+        assertThat(batches.stream().flatMap(List::stream)).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(batcher.size()).isZero();
+    }
+
+    @Test
+    void test_batcher_max_delay() {
+        final var future = new CompletableFuture<List<String>>();
+        final var begin = System.nanoTime();
+        final var batcher = this.scheduler.<String>batcher(
+                this.plugin, 100, 500L, MindustryTimeUnit.MILLISECONDS, future::complete);
+        batcher.add("a");
+        batcher.add("b");
+
+        assertThat(future).succeedsWithin(Duration.ofMillis(500L).plus(PRECISION)).isEqualTo(List.of("a", "b"));
+        assertThat(Duration.ofNanos(System.nanoTime() - begin)).isGreaterThanOrEqualTo(Duration.ofMillis(400L));
+    }
+
+    @Test
+    void test_batcher_keeps_undersized_batch() throws InterruptedException {
+        final var batches = new CopyOnWriteArrayList<List<Integer>>();
+        final var batcher = this.scheduler.<Integer>batcher(this.plugin, 3, 1L, MindustryTimeUnit.HOURS, batches::add);
+        for (int i = 0; i < 4; i++) {
+            batcher.add(i);
+        }
+
+        Thread.sleep(PRECISION.toMillis());
+        assertThat(batches).containsExactly(List.of(0, 1, 2));
+        assertThat(batcher.size()).isOne();
+    }
+
+    @Test
+    void test_batcher_close() {
+        final var future = new CompletableFuture<List<String>>();
+        final var batcher =
+                this.scheduler.<String>batcher(this.plugin, 100, 1L, MindustryTimeUnit.HOURS, future::complete);
+        batcher.add("a");
+        batcher.add("b");
+        batcher.close();
+
+        assertThat(future).succeedsWithin(PRECISION).isEqualTo(List.of("a", "b"));
+        assertThatThrownBy(() -> batcher.add("c")).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void test_task_handler() {
         final var handler = new TestTaskHandler(this.source);
@@ -227,6 +488,23 @@ public final class SimplePluginSchedulerTest {
         assertThat(handler.longs3.size()).isEqualTo(1);
     }
 
+    // Runs a sync task repeated at a fixed rate from the tick 0, updating the scheduler at the given ticks
+    private List<Long> runAtFixedRate(final long period, final CatchUpPolicy policy, final long... updates) {
+        final var time = new AtomicLong(0L);
+        final var scheduler = new SimplePluginScheduler(time::get, time::get, Runnable::run, 1);
+        final var ticks = new ArrayList<Long>();
+        scheduler
+                .scheduleSync(this.plugin)
+                .repeatAtFixedRate(period, MindustryTimeUnit.TICKS, policy)
+                .execute(() -> ticks.add(time.get()));
+        for (final var update : updates) {
+            time.set(update);
+            scheduler.onPluginUpdate();
+        }
+        scheduler.onPluginExit();
+        return ticks;
+    }
+
     private static final class TestRecipeStep<V> {
 
         private final V value;
@@ -0,0 +1,165 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
+import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class TaskWheelTest {
+
+    private MindustryPlugin plugin;
+    private SimplePluginScheduler scheduler;
+    private List<SimplePluginTask<?>> dispatched;
+    private TaskWheel wheel;
+
+    @BeforeEach
+    void before() {
+        this.plugin = Mockito.mock(MindustryPlugin.class);
+        // Only creates the tasks, it is never updated so it does not run them
+        this.scheduler = new SimplePluginScheduler(() -> 0L, () -> 0L, Runnable::run, 1);
+        this.dispatched = new ArrayList<>();
+        this.wheel = new TaskWheel(0L, this.dispatched::add);
+    }
+
+    @AfterEach
+    void after() {
+        this.scheduler.onPluginExit();
+    }
+
+    @Test
+    void test_dispatch_after_execution_time() {
+        final var task = this.createTask(10L);
+        this.wheel.submit(task);
+
+        this.wheel.advance(10L);
+        assertThat(this.dispatched).isEmpty();
+        assertThat(this.wheel.size()).isEqualTo(1);
+
+        this.wheel.advance(11L);
+        assertThat(this.dispatched).containsExactly(task);
+        assertThat(this.wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    void test_dispatch_more_than_one_rotation_ahead() {
+        final var near = this.createTask(44L);
+        // Same slot as the near task, one rotation later
+        final var far = this.createTask(300L);
+        final var farther = this.createTask(1000L);
+        this.wheel.submit(near);
+        this.wheel.submit(far);
+        this.wheel.submit(farther);
+
+        this.wheel.advance(45L);
+        assertThat(this.dispatched).containsExactly(near);
+
+        this.wheel.advance(300L);
+        assertThat(this.dispatched).containsExactly(near);
+
+        this.wheel.advance(301L);
+        assertThat(this.dispatched).containsExactly(near, far);
+
+        // Skips more than a rotation at once
+        this.wheel.advance(900L);
+        assertThat(this.dispatched).containsExactly(near, far);
+        assertThat(this.wheel.size()).isEqualTo(1);
+
+        this.wheel.advance(1001L);
+        assertThat(this.dispatched).containsExactly(near, far, farther);
+        assertThat(this.wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    void test_submit_during_advance() {
+        final var first = this.createTask(5L);
+        final var late = this.createTask(3L);
+        final var later = this.createTask(20L);
+        this.wheel = new TaskWheel(0L, task -> {
+            this.dispatched.add(task);
+            if (task == first) {
+                this.wheel.submit(late);
+                this.wheel.submit(later);
+            }
+        });
+        this.wheel.submit(first);
+
+        // The late task is dispatched within the same advance
+        this.wheel.advance(10L);
+        assertThat(this.dispatched).containsExactly(first, late);
+        assertThat(this.wheel.size()).isEqualTo(1);
+
+        this.wheel.advance(21L);
+        assertThat(this.dispatched).containsExactly(first, late, later);
+    }
+
+    @Test
+    void test_cancel_in_slot() {
+        final var cancelled = this.createTask(10L);
+        final var other = this.createTask(10L);
+        this.wheel.submit(cancelled);
+        this.wheel.submit(other);
+        this.wheel.advance(5L);
+        assertThat(this.wheel.size()).isEqualTo(2);
+
+        cancelled.cancel(false);
+        this.wheel.advance(20L);
+        assertThat(this.dispatched).containsExactly(other);
+        assertThat(this.wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    void test_cancel_before_drain() {
+        final var task = this.createTask(10L);
+        this.wheel.submit(task);
+        task.cancel(false);
+
+        this.wheel.advance(20L);
+        assertThat(this.dispatched).isEmpty();
+        assertThat(this.wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    void test_submit_overdue() {
+        this.wheel.advance(100L);
+        final var overdue = this.createTask(10L);
+        final var due = this.createTask(100L);
+        this.wheel.submit(overdue);
+        this.wheel.submit(due);
+
+        this.wheel.advance(101L);
+        assertThat(this.dispatched).containsExactly(overdue, due);
+        assertThat(this.wheel.size()).isEqualTo(0);
+    }
+
+    // One shot tasks wait in the queue of the scheduler, so the wheel is the only user of their link
+    private SimplePluginTask<?> createTask(final long time) {
+        return (SimplePluginTask<?>) this.scheduler
+                .scheduleSync(this.plugin)
+                .delay(time, MindustryTimeUnit.TICKS)
+                .execute(() -> {});
+    }
+}
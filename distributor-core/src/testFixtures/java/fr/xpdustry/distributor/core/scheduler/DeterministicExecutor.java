@@ -0,0 +1,114 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor service queuing the submitted tasks until they are explicitly run, in the calling thread and in the
+ * submission order. Can be used for both the sync and async tasks of a {@link SimplePluginScheduler}.
+ */
+public final class DeterministicExecutor extends AbstractExecutorService {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private boolean shutdown = false;
+
+    @Override
+    public synchronized void execute(final Runnable command) {
+        if (this.shutdown) {
+            throw new RejectedExecutionException("The executor is shut down.");
+        }
+        this.tasks.add(command);
+    }
+
+    /**
+     * Runs the next queued task.
+     *
+     * @return whether a task has been run.
+     */
+    public boolean runNext() {
+        final Runnable task;
+        synchronized (this) {
+            task = this.tasks.poll();
+        }
+        if (task == null) {
+            return false;
+        }
+        task.run();
+        return true;
+    }
+
+    /**
+     * Runs the queued tasks until none are left, including the ones submitted in the meantime.
+     *
+     * @return the number of tasks run.
+     */
+    public int runAll() {
+        var count = 0;
+        while (this.runNext()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of queued tasks.
+     */
+    public synchronized int size() {
+        return this.tasks.size();
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        this.shutdown = true;
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        final var remaining = new ArrayList<>(this.tasks);
+        this.tasks.clear();
+        return remaining;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return this.shutdown && this.tasks.isEmpty();
+    }
+
+    /**
+     * Runs the remaining tasks in the calling thread, since nothing else would.
+     */
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+        this.runAll();
+        return this.isTerminated();
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import fr.xpdustry.distributor.api.scheduler.CatchUpPolicy;
+import fr.xpdustry.distributor.api.scheduler.MindustryTimeUnit;
+import fr.xpdustry.distributor.api.scheduler.PluginTaskBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes a simulated load through a {@link SimplePluginScheduler}, running on a {@link VirtualTimeSource} and
+ * {@link DeterministicExecutor}s, so the same configuration always schedules the same tasks.
+ * <p>
+ * Each simulated plugin starts with a number of repeating tasks, then random one-shot tasks, sync or async and with
+ * or without delay, are scheduled at every tick. The time spent in each tick is measured to report the throughput of
+ * the scheduler and how often it overruns the tick budget.
+ *
+ * <pre> {@code
+ *      final var report = SchedulerLoadGenerator.builder()
+ *          .plugins(20)
+ *          .repeatingTasksPerPlugin(50)
+ *          .tasksPerTick(100)
+ *          .ticks(60 * 60)
+ *          .build()
+ *          .run();
+ *      System.out.println(report.throughput() + " tasks/s, " + report.overruns() + " overruns");
+ * } </pre>
+ */
+public final class SchedulerLoadGenerator {
+
+    private static final long DEFAULT_TICK_BUDGET = 1_000_000_000L / 60L;
+
+    private final int plugins;
+    private final int repeatingTasksPerPlugin;
+    private final int tasksPerTick;
+    private final int maxDelay;
+    private final int maxPeriod;
+    private final long workNanos;
+    private final long ticks;
+    private final long tickBudgetNanos;
+    private final long seed;
+
+    private SchedulerLoadGenerator(final Builder builder) {
+        this.plugins = builder.plugins;
+        this.repeatingTasksPerPlugin = builder.repeatingTasksPerPlugin;
+        this.tasksPerTick = builder.tasksPerTick;
+        this.maxDelay = builder.maxDelay;
+        this.maxPeriod = builder.maxPeriod;
+        this.workNanos = builder.workNanos;
+        this.ticks = builder.ticks;
+        this.tickBudgetNanos = builder.tickBudgetNanos;
+        this.seed = builder.seed;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the simulation in the calling thread.
+     *
+     * @return the report of the simulation.
+     */
+    public Report run() {
+        final var random = new Random(this.seed);
+        final var time = new VirtualTimeSource();
+        final var sync = new DeterministicExecutor();
+        final var async = new DeterministicExecutor();
+        final var scheduler = new SimplePluginScheduler(time, time, sync, async);
+        final var executed = new AtomicLong();
+        final Runnable work = () -> {
+            executed.incrementAndGet();
+            if (this.workNanos > 0) {
+                final var end = System.nanoTime() + this.workNanos;
+                while (System.nanoTime() < end) {
+                    Thread.onSpinWait();
+                }
+            }
+        };
+
+        final List<SimulatedPlugin> plugins = new ArrayList<>();
+        for (int i = 0; i < this.plugins; i++) {
+            final var plugin = new SimulatedPlugin("simulated-plugin-" + i);
+            plugins.add(plugin);
+            for (int j = 0; j < this.repeatingTasksPerPlugin; j++) {
+                final PluginTaskBuilder builder =
+                        random.nextBoolean() ? scheduler.scheduleAsync(plugin) : scheduler.scheduleSync(plugin);
+                final var period = 1 + random.nextInt(this.maxPeriod);
+                if (random.nextBoolean()) {
+                    builder.repeat(period, MindustryTimeUnit.TICKS);
+                } else {
+                    final var policies = CatchUpPolicy.values();
+                    builder.repeatAtFixedRate(
+                            period, MindustryTimeUnit.TICKS, policies[random.nextInt(policies.length)]);
+                }
+                builder.execute(work);
+            }
+        }
+
+        var scheduled = (long) this.plugins * this.repeatingTasksPerPlugin;
+        final var tickTimes = new Histogram();
+        var overruns = 0L;
+        final var begin = System.nanoTime();
+        for (long tick = 0; tick < this.ticks; tick++) {
+            for (int i = 0; i < this.tasksPerTick && !plugins.isEmpty(); i++) {
+                final var plugin = plugins.get(random.nextInt(plugins.size()));
+                final PluginTaskBuilder builder =
+                        random.nextBoolean() ? scheduler.scheduleAsync(plugin) : scheduler.scheduleSync(plugin);
+                if (this.maxDelay > 0 && random.nextBoolean()) {
+                    builder.delay(random.nextInt(this.maxDelay) + 1L, MindustryTimeUnit.TICKS);
+                }
+                builder.execute(work);
+                scheduled++;
+            }
+
+            final var start = System.nanoTime();
+            scheduler.onPluginUpdate();
+            sync.runAll();
+            async.runAll();
+            final var elapsed = System.nanoTime() - start;
+            tickTimes.record(elapsed);
+            if (elapsed > this.tickBudgetNanos) {
+                overruns++;
+            }
+            time.advance(1L);
+        }
+        final var duration = System.nanoTime() - begin;
+        scheduler.onPluginExit();
+
+        final var throughput = duration == 0 ? 0D : executed.get() / (duration / 1_000_000_000D);
+        return new Report(
+                this.ticks,
+                scheduled,
+                executed.get(),
+                throughput,
+                overruns,
+                tickTimes.snapshot(),
+                scheduler.getMetrics().snapshot());
+    }
+
+    /**
+     * The results of a simulation.
+     *
+     * @param ticks      the number of simulated ticks
+     * @param scheduled  the number of scheduled tasks
+     * @param executed   the number of task executions, including each run of the repeating tasks
+     * @param throughput the number of task executions per second of real time
+     * @param overruns   the number of ticks exceeding the tick budget
+     * @param tickTimes  the real time spent in each tick, in nanoseconds
+     * @param metrics    the metrics of the scheduler at the end of the simulation
+     */
+    public record Report(
+            long ticks,
+            long scheduled,
+            long executed,
+            double throughput,
+            long overruns,
+            Histogram.Snapshot tickTimes,
+            SchedulerMetrics.Snapshot metrics) {}
+
+    public static final class Builder {
+
+        private int plugins = 10;
+        private int repeatingTasksPerPlugin = 10;
+        private int tasksPerTick = 10;
+        private int maxDelay = 60;
+        private int maxPeriod = 60;
+        private long workNanos = 0L;
+        private long ticks = 60L * 60L;
+        private long tickBudgetNanos = DEFAULT_TICK_BUDGET;
+        private long seed = 0L;
+
+        private Builder() {}
+
+        /**
+         * Sets the number of simulated plugins, 10 by default.
+         */
+        public Builder plugins(final int plugins) {
+            this.plugins = positive(plugins, "plugins");
+            return this;
+        }
+
+        /**
+         * Sets the number of repeating tasks started by each plugin, 10 by default.
+         */
+        public Builder repeatingTasksPerPlugin(final int repeatingTasksPerPlugin) {
+            this.repeatingTasksPerPlugin = positive(repeatingTasksPerPlugin, "repeatingTasksPerPlugin");
+            return this;
+        }
+
+        /**
+         * Sets the number of one-shot tasks scheduled at each tick, 10 by default.
+         */
+        public Builder tasksPerTick(final int tasksPerTick) {
+            this.tasksPerTick = positive(tasksPerTick, "tasksPerTick");
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay in ticks of the delayed one-shot tasks, 60 by default.
+         */
+        public Builder maxDelay(final int maxDelay) {
+            this.maxDelay = positive(maxDelay, "maxDelay");
+            return this;
+        }
+
+        /**
+         * Sets the maximum period in ticks of the repeating tasks, 60 by default.
+         */
+        public Builder maxPeriod(final int maxPeriod) {
+            if (maxPeriod < 1) {
+                throw new IllegalArgumentException("maxPeriod must be strictly positive, got " + maxPeriod);
+            }
+            this.maxPeriod = maxPeriod;
+            return this;
+        }
+
+        /**
+         * Sets the real time spent busy-waiting by each task execution, none by default.
+         */
+        public Builder workNanos(final long workNanos) {
+            this.workNanos = positive(workNanos, "workNanos");
+            return this;
+        }
+
+        /**
+         * Sets the number of simulated ticks, one minute of game time by default.
+         */
+        public Builder ticks(final long ticks) {
+            this.ticks = positive(ticks, "ticks");
+            return this;
+        }
+
+        /**
+         * Sets the real time a tick can take before being counted as an overrun, a 60th of a second by default.
+         */
+        public Builder tickBudgetNanos(final long tickBudgetNanos) {
+            this.tickBudgetNanos = positive(tickBudgetNanos, "tickBudgetNanos");
+            return this;
+        }
+
+        /**
+         * Sets the seed of the random generator choosing the tasks.
+         */
+        public Builder seed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public SchedulerLoadGenerator build() {
+            return new SchedulerLoadGenerator(this);
+        }
+
+        private static int positive(final int value, final String name) {
+            return (int) positive((long) value, name);
+        }
+
+        private static long positive(final long value, final String name) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " must be positive, got " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import fr.xpdustry.distributor.api.plugin.MindustryPlugin;
+import fr.xpdustry.distributor.api.plugin.PluginDescriptor;
+import fr.xpdustry.distributor.api.plugin.PluginListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import mindustry.mod.Mods;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bare {@link MindustryPlugin} standing for a real plugin in scheduler tests.
+ */
+public final class SimulatedPlugin implements MindustryPlugin {
+
+    private final PluginDescriptor descriptor;
+    private final Logger logger;
+    private final List<PluginListener> listeners = new ArrayList<>();
+
+    public SimulatedPlugin(final String name) {
+        final var meta = new Mods.ModMeta();
+        meta.name = name;
+        meta.main = SimulatedPlugin.class.getName();
+        this.descriptor = PluginDescriptor.from(meta);
+        this.logger = LoggerFactory.getLogger(name);
+    }
+
+    @Override
+    public Logger getLogger() {
+        return this.logger;
+    }
+
+    @Override
+    public PluginDescriptor getDescriptor() {
+        return this.descriptor;
+    }
+
+    @Override
+    public void addListener(final PluginListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Returns the listeners added to this plugin.
+     */
+    public List<PluginListener> getListeners() {
+        return Collections.unmodifiableList(this.listeners);
+    }
+}
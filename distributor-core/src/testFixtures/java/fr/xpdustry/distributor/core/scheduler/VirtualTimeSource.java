@@ -0,0 +1,55 @@
+/*
+ * Distributor, a feature-rich framework for Mindustry plugins.
+ *
+ * Copyright (C) 2023 Xpdustry
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package fr.xpdustry.distributor.core.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link TimeSource} only moving forward when told to, for deterministic scheduler tests.
+ */
+public final class VirtualTimeSource implements TimeSource {
+
+    private final AtomicLong ticks;
+
+    public VirtualTimeSource(final long start) {
+        this.ticks = new AtomicLong(start);
+    }
+
+    public VirtualTimeSource() {
+        this(0L);
+    }
+
+    /**
+     * Moves the time forward.
+     *
+     * @param ticks the number of ticks to advance.
+     * @return the new current time.
+     */
+    public long advance(final long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("The time can't go backward, got " + ticks);
+        }
+        return this.ticks.addAndGet(ticks);
+    }
+
+    @Override
+    public long getCurrentTicks() {
+        return this.ticks.get();
+    }
+}
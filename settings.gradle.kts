@@ -4,3 +4,4 @@ include(":distributor-bom")
 include(":distributor-api")
 include(":distributor-core")
 include(":distributor-kotlin")
+include(":distributor-benchmarks")